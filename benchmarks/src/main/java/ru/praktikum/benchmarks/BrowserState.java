@@ -0,0 +1,40 @@
+package ru.praktikum.benchmarks;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openqa.selenium.WebDriver;
+import ru.praktikum.driver.DriverFactory;
+import ru.praktikum.replica.ScooterReplica;
+
+/**
+ * Общее состояние бенчмарков Page Object: одна сессия браузера на поток
+ * на все итерации и адрес локальной копии приложения.
+ * Профиль браузера задается параметром "profile" (например, -p profile=fast,lean),
+ * и результаты разных профилей попадают в один отчет.
+ */
+@State(Scope.Thread)
+public class BrowserState {
+    @Param({"headless"})
+    public String profile;
+
+    public WebDriver driver;
+    public String baseUrl;
+
+    @Setup(Level.Trial)
+    public void launch() {
+        System.setProperty("profile", profile);
+        baseUrl = ScooterReplica.getInstance().getBaseUrl();
+        driver = DriverFactory.create();
+    }
+
+    @TearDown(Level.Trial)
+    public void quit() {
+        if (driver != null) {
+            driver.quit();
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package ru.praktikum.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.WebDriver;
+import ru.praktikum.driver.DriverFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Время запуска новой сессии браузера через DriverFactory с выбранным профилем.
+ * Каждая операция запускает браузер, закрытие в замер не входит.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 10)
+@Fork(value = 1, jvmArgsAppend = {"-Dwait.log=false", "-Dmetrics=false"})
+@State(Scope.Thread)
+public class DriverStartupBenchmark {
+    @Param({"headless"})
+    public String profile;
+
+    private WebDriver driver;
+
+    @Setup(Level.Trial)
+    public void selectProfile() {
+        System.setProperty("profile", profile);
+    }
+
+    @Benchmark
+    public WebDriver launch() {
+        driver = DriverFactory.create();
+        return driver;
+    }
+
+    @TearDown(Level.Invocation)
+    public void quit() {
+        if (driver != null) {
+            driver.quit();
+            driver = null;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package ru.praktikum.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.praktikum.pages.HomePage;
+import ru.praktikum.pages.support.CookieConsent;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Операции главной страницы: закрытие баннера с куки и раскрытие вопроса FAQ с чтением ответа.
+ * Страница открывается заново перед каждой операцией, загрузка в замер не входит.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(value = 1, jvmArgsAppend = {"-Dwait.log=false", "-Dmetrics=false"})
+public class HomePageBenchmark {
+
+    /**
+     * Главная страница с баннером с куки.
+     */
+    public static class BannerShown extends BrowserState {
+        public HomePage homePage;
+
+        @Setup(Level.Invocation)
+        public void openWithBanner() {
+            CookieConsent.clear(driver);
+            driver.get(baseUrl);
+            homePage = new HomePage(driver);
+        }
+    }
+
+    /**
+     * Главная страница с принятыми куки и свернутым FAQ.
+     */
+    public static class HomeLoaded extends BrowserState {
+        @Param({"0", "7"})
+        public int question;
+
+        public HomePage homePage;
+
+        @Setup(Level.Invocation)
+        public void openHome() {
+            CookieConsent.seed(driver, baseUrl);
+            driver.get(baseUrl);
+            homePage = new HomePage(driver);
+        }
+    }
+
+    @Benchmark
+    public void closeCookieBanner(BannerShown state) {
+        state.homePage.closeCookieBanner();
+    }
+
+    @Benchmark
+    public String openFaqQuestion(HomeLoaded state) {
+        state.homePage.openFaqQuestion(state.question);
+        return state.homePage.getFaqAnswer(state.question);
+    }
+}
@@ -0,0 +1,74 @@
+package ru.praktikum.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.praktikum.core.OrderData;
+import ru.praktikum.pages.HomePage;
+import ru.praktikum.pages.OrderStatusPage;
+import ru.praktikum.pages.support.CookieConsent;
+import ru.praktikum.services.ui.UIOrderService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Сценарии заказа: полное оформление через UIOrderService и поиск заказа по номеру.
+ * Перед каждой операцией открывается главная страница, загрузка в замер не входит.
+ * Поиск выполняется по несуществующему номеру и длится до появления "Заказ не найден".
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 5, time = 20)
+@Fork(value = 1, jvmArgsAppend = {"-Dwait.log=false", "-Dmetrics=false"})
+public class OrderBenchmark {
+    private static final OrderData ORDER = new OrderData(
+            "Иван", "Иванов", "Москва, Красная площадь", "Театральная",
+            "89031234567", "15.08.2025", "сутки", "black", "Бенчмарк");
+
+    // Несуществующий номер: страница статуса сразу показывает "Заказ не найден"
+    private static final String MISSING_ORDER_ID = "0";
+
+    /**
+     * Главная страница с принятыми куки.
+     */
+    public static class HomeLoaded extends BrowserState {
+        public HomePage homePage;
+
+        @Setup(Level.Invocation)
+        public void openHome() {
+            CookieConsent.seed(driver, baseUrl);
+            driver.get(baseUrl);
+            homePage = new HomePage(driver);
+        }
+    }
+
+    /**
+     * Главная страница с открытым полем ввода номера заказа в шапке.
+     */
+    public static class StatusInputShown extends BrowserState {
+        public OrderStatusPage statusPage;
+
+        @Setup(Level.Invocation)
+        public void openStatusInput() {
+            CookieConsent.seed(driver, baseUrl);
+            driver.get(baseUrl);
+            statusPage = new HomePage(driver).clickOrderStatusButton();
+        }
+    }
+
+    @Benchmark
+    public boolean createOrder(HomeLoaded state) {
+        return new UIOrderService(state.driver, state.homePage, state.baseUrl).createOrder(ORDER, true);
+    }
+
+    @Benchmark
+    public boolean checkOrderStatus(StatusInputShown state) {
+        return state.statusPage.checkOrderStatus(MISSING_ORDER_ID).isNotFoundDisplayed();
+    }
+}
@@ -1,33 +1,70 @@
 package ru.praktikum;
 
-import io.github.bonigarcia.wdm.WebDriverManager;
 import org.junit.After;
 import org.junit.Before;
+import org.junit.Rule;
+import org.junit.rules.TestName;
 import org.openqa.selenium.WebDriver;
-import org.openqa.selenium.chrome.ChromeDriver;
-import org.openqa.selenium.chrome.ChromeOptions;
-import org.openqa.selenium.firefox.FirefoxDriver;
-import org.openqa.selenium.firefox.FirefoxOptions;
 import ru.praktikum.core.FaqService;
 import ru.praktikum.core.OrderService;
+import ru.praktikum.driver.BrowserRule;
+import ru.praktikum.driver.DriverFactory;
+import ru.praktikum.driver.DriverPool;
+import ru.praktikum.driver.DriverProvider;
+import ru.praktikum.driver.DriverReaper;
+import ru.praktikum.driver.MemoryGovernor;
+import ru.praktikum.driver.PipelinedDriverProvider;
+import ru.praktikum.driver.ProfileStats;
+import ru.praktikum.driver.SetupTimer;
+import ru.praktikum.metrics.CommandMetrics;
 import ru.praktikum.pages.HomePage;
+import ru.praktikum.pages.support.CookieConsent;
+import ru.praktikum.pages.support.PerformanceProbe;
+import ru.praktikum.pages.support.WaitEngine;
+import ru.praktikum.services.api.ApiOrderService;
 import ru.praktikum.services.ui.UIFaqService;
 import ru.praktikum.services.ui.UIOrderService;
+import ru.praktikum.sharding.ShardRule;
 import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 /**
  * Базовый класс для всех тестов.
  * Содержит общую логику инициализации и завершения работы тестов.
- * Инициализирует WebDriver, сервисы и открывает базовую страницу.
+ * Получает WebDriver из пула (или из конвейера запуска, см. "driver.lifecycle"),
+ * инициализирует сервисы и открывает базовую страницу.
+ * Тесты с {@link OrderServiceOnly} при "order.service=api" выполняются без браузера.
  */
 public class BaseTest {
     protected WebDriver driver;
     protected OrderService orderService;
     protected FaqService faqService;
     protected HomePage homePage;
-    // Конфигурация таймаутов
-    private static final int IMPLICIT_WAIT_SECONDS = 5;
-    private static final String BASE_URL = "https://qa-scooter.praktikum-services.ru/";
+    // Сессия в том виде, в котором ее выдал провайдер (без декоратора метрик)
+    private WebDriver pooledDriver;
+    private DriverProvider driverProvider;
+    // Адрес стенда настраивается системными свойствами "target" и "base.url"
+    protected static final String BASE_URL = TestEnvironment.baseUrl();
+    // Жизненный цикл браузера: "pool" (по умолчанию) - переиспользование сессий,
+    // "pipelined" - новая сессия на тест с запуском заранее и закрытием в фоне
+    private static final String LIFECYCLE = System.getProperty("driver.lifecycle", "pool").trim().toLowerCase();
+    // Отдельный провайдер сессий для каждого браузера, см. TestContext.browser()
+    private static final Map<String, DriverProvider> DRIVER_PROVIDERS = new ConcurrentHashMap<>();
+
+    @Rule
+    public TestName testName = new TestName();
+
+    // Замер длительности теста и пропуск тестов чужого шарда ("shard=i/N") до запуска браузера
+    @Rule
+    public ShardRule shardRule = new ShardRule();
+
+    // Выбор браузера: тесты без @DomOnly пропускаются в HtmlUnit до запуска браузера,
+    // тесты с @OrderServiceOnly в режиме API браузер не получают
+    @Rule
+    public BrowserRule browserRule = new BrowserRule();
 
     /**
      * Метод инициализации перед каждым тестом.
@@ -35,69 +72,152 @@ public class BaseTest {
      */
     @Before
     public void setUp() {
+        ProfileStats.recordTest();
+        CommandMetrics.startTest();
+        WaitEngine.current().startTest();
+        SetupTimer.start();
+        if (!browserRule.isBrowserRequired()) {
+            TestContext.begin(getClass().getSimpleName() + "." + testName.getMethodName(), null);
+            initializeServices();
+            return;
+        }
         initializeDriver();
         initializeServices();
+        long openStart = System.nanoTime();
         openBasePage();
+        SetupTimer.record("open", openStart);
+        SetupTimer.report(TestContext.current().getTestName());
     }
 
     /**
      * Метод завершения работы после каждого теста.
-     * Закрывает браузер и освобождает ресурсы.
+     * Возвращает браузер в пул для переиспользования следующим тестом.
+     * Если клиентские метрики теста превысили бюджеты (см. {@link PerformanceProbe}),
+     * тест проваливается после освобождения браузера.
      */
     @After
     public void tearDown() {
-        if (driver != null) {
-            driver.quit();
+        TestContext context = TestContext.current();
+        List<String> budgetViolations = List.of();
+        try {
+            if (context != null) {
+                CommandMetrics.finishTest(context.getTestName());
+                WaitEngine.current().finishTest(context.getTestName());
+                budgetViolations = PerformanceProbe.finishTest(context.getTestName());
+            }
+        } finally {
+            // Сессия возвращается провайдеру, даже если сбор метрик теста завершился ошибкой
+            TestContext.end();
+            try {
+                MemoryGovernor.get().untrack(pooledDriver);
+            } finally {
+                if (driverProvider != null) {
+                    driverProvider.release(pooledDriver);
+                }
+            }
+        }
+        if (!budgetViolations.isEmpty()) {
+            throw new AssertionError("Performance budget exceeded:\n  " + String.join("\n  ", budgetViolations));
         }
     }
 
     /**
-     * Инициализирует WebDriver в зависимости от выбранного браузера.
-     * Поддерживает Chrome (по умолчанию) и Firefox.
-     * Настройки браузера передаются через системное свойство "browser".
+     * Получает WebDriver у провайдера, оборачивает его сбором метрик команд
+     * и привязывает к текущему потоку.
+     * Браузер берется из TestContext: в матричном запуске он свой у каждого потока,
+     * иначе выбирается системным свойством "browser". Тесты с {@link DomOnly}
+     * при "lightweight=true" выполняются в HtmlUnit, см. {@link BrowserRule}.
      */
     private void initializeDriver() {
-        String browser = System.getProperty("browser", "chrome");
+        driverProvider = DRIVER_PROVIDERS.computeIfAbsent(browserRule.getBrowser(), BaseTest::createDriverProvider);
+        pooledDriver = driverProvider.acquire();
+        MemoryGovernor.get().track(pooledDriver, getClass().getSimpleName());
+        driver = CommandMetrics.decorate(pooledDriver);
+        TestContext.begin(getClass().getSimpleName() + "." + testName.getMethodName(), driver);
+    }
 
-        switch (browser.toLowerCase()) {
-            case "firefox":
-                WebDriverManager.firefoxdriver().setup();
-                FirefoxOptions firefoxOptions = new FirefoxOptions();
-                firefoxOptions.addArguments("--width=1920");
-                firefoxOptions.addArguments("--height=1080");
-                driver = new FirefoxDriver(firefoxOptions);
-                break;
-            case "chrome":
+    /**
+     * Создает провайдер сессий браузера по режиму "driver.lifecycle".
+     * Размер задается свойством "pool.size.&lt;браузер&gt;" или общим "pool.size",
+     * по умолчанию совпадает с количеством потоков "threads". Для пула он ограничивает количество
+     * одновременно открытых сессий браузера, например более тяжелого по памяти Firefox,
+     * для конвейера - количество сессий, запускаемых заранее.
+     * Сессия до открытия базовой страницы получает куку согласия, чтобы баннер с куки не отрисовывался.
+     * Новый браузер запускается, только пока в системе хватает свободной памяти, см. {@link MemoryGovernor}.
+     * В конвейере закрытие выполняют "reaper.threads" потоков (по умолчанию 2), а ожидать закрытия
+     * может не больше "reaper.max.pending" сессий (по умолчанию 4).
+     */
+    private static DriverProvider createDriverProvider(String browser) {
+        int size = Integer.getInteger("pool.size." + browser,
+                Integer.getInteger("pool.size", Integer.getInteger("threads", 1)));
+        Supplier<WebDriver> factory = () -> MemoryGovernor.get().launch(browser, () -> DriverFactory.create(browser));
+        switch (LIFECYCLE) {
+            case "pipelined":
+                DriverReaper reaper = new DriverReaper(
+                        Integer.getInteger("reaper.threads", 2), Integer.getInteger("reaper.max.pending", 4));
+                return new PipelinedDriverProvider(browser, size, factory,
+                        driver -> {
+                            CookieConsent.seed(driver, BASE_URL);
+                            driver.get(BASE_URL);
+                        },
+                        reaper, Duration.ofSeconds(Long.getLong("reaper.timeout", 20)));
+            case "pool":
+                return new DriverPool(browser, size, BASE_URL, factory,
+                        driver -> CookieConsent.seed(driver, BASE_URL));
             default:
-                WebDriverManager.chromedriver().setup();
-                ChromeOptions options = new ChromeOptions();
-                options.addArguments(
-                        "--window-size=1920,1080",
-                        "--no-sandbox",
-                        "--disable-dev-shm-usage"
-                );
-                driver = new ChromeDriver(options);
-                break;
+                throw new IllegalArgumentException("Unknown driver lifecycle: " + LIFECYCLE
+                        + ", expected pool or pipelined");
         }
-
-        driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(IMPLICIT_WAIT_SECONDS));
     }
 
     /**
      * Инициализирует сервисы для работы с заказами и FAQ.
-     * Сервисы используют паттерн Page Object для взаимодействия с UI.
+     * Реализация сервиса заказов выбирается системным свойством "order.service":
+     * "ui" (по умолчанию) работает через Page Object, "api" - через HTTP API.
+     * Тесту без браузера доступен только сервис заказов.
      */
     private void initializeServices() {
+        if (driver == null) {
+            this.orderService = new ApiOrderService(BASE_URL);
+            return;
+        }
         this.homePage = new HomePage(driver);
-        this.orderService = new UIOrderService(driver, homePage);
+        this.orderService = "api".equalsIgnoreCase(System.getProperty("order.service"))
+                ? new ApiOrderService(BASE_URL)
+                : new UIOrderService(driver, homePage);
         this.faqService = new UIFaqService(homePage);
     }
 
     /**
-     * Открывает базовую страницу и закрывает баннер с куки.
+     * Определяет, записывать ли согласие на куки до загрузки страницы.
+     * Тесты, проверяющие баннер с куки, переопределяют метод и возвращают false.
+     * @return true если баннер не должен отображаться
+     */
+    protected boolean isCookieConsentPreset() {
+        return true;
+    }
+
+    /**
+     * Открывает базовую страницу.
+     * Сессия из пула уже находится на базовой странице с записанным согласием на куки,
+     * поэтому повторная загрузка не выполняется. Новая сессия получает согласие
+     * до первой навигации, а оставшийся баннер закрывается без ожидания.
+     * Метрики загрузки главной страницы снимаются только после фактической навигации.
      */
     private void openBasePage() {
-        driver.get(BASE_URL);
-        homePage.closeCookieBanner();
+        if (!isCookieConsentPreset()) {
+            if (BASE_URL.equals(driver.getCurrentUrl())) {
+                CookieConsent.clear(driver);
+            }
+            driver.get(BASE_URL);
+            PerformanceProbe.captureLoad(driver, "HomePage");
+            return;
+        }
+        if (!BASE_URL.equals(driver.getCurrentUrl())) {
+            CookieConsent.seed(driver, BASE_URL);
+            driver.get(BASE_URL);
+            PerformanceProbe.captureLoad(driver, "HomePage");
+        }
+        homePage.dismissCookieBannerIfPresent();
     }
-}
\ No newline at end of file
+}
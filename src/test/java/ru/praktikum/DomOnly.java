@@ -0,0 +1,19 @@
+package ru.praktikum;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Отмечает тесты, которым достаточно DOM: они читают текст, проверяют видимость
+ * элементов и переходы по ссылкам, но не зависят от раскладки, прокрутки и отрисовки.
+ * Такие тесты могут выполняться во встроенном в JVM браузере HtmlUnit ("browser=htmlunit"),
+ * остальные тесты в нем пропускаются. Ставится на тестовый класс или отдельный метод.
+ */
+@Inherited
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD})
+public @interface DomOnly {
+}
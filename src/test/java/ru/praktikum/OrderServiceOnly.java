@@ -0,0 +1,19 @@
+package ru.praktikum;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Отмечает тесты, которые работают только через сервис заказов и не обращаются к страницам.
+ * При "order.service=api" такие тесты выполняются без браузера: сессия не запрашивается,
+ * память под нее не резервируется и главная страница не открывается.
+ * Ставится на тестовый класс или отдельный метод.
+ */
+@Inherited
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD})
+public @interface OrderServiceOnly {
+}
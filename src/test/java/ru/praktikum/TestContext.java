@@ -0,0 +1,83 @@
+package ru.praktikum;
+
+import org.openqa.selenium.WebDriver;
+
+/**
+ * Контекст текущего теста, привязанный к потоку.
+ * При параллельном запуске каждый поток работает только со своим
+ * драйвером, поэтому вспомогательные классы получают сессию отсюда,
+ * а не из общих статических полей.
+ * Браузер тоже выбирается на уровне потока: в матричном запуске каждый браузер
+ * выполняется в своем потоке, и потоки, порожденные им, наследуют выбор.
+ */
+public final class TestContext {
+    private static final ThreadLocal<TestContext> CURRENT = new ThreadLocal<>();
+    private static final InheritableThreadLocal<String> BROWSER = new InheritableThreadLocal<>();
+
+    private final String testName;
+    private final WebDriver driver;
+
+    private TestContext(String testName, WebDriver driver) {
+        this.testName = testName;
+        this.driver = driver;
+    }
+
+    /**
+     * Привязывает контекст теста к текущему потоку.
+     * @param testName имя теста (класс и метод)
+     * @param driver драйвер, выданный тесту
+     * @return созданный контекст
+     */
+    public static TestContext begin(String testName, WebDriver driver) {
+        TestContext context = new TestContext(testName, driver);
+        CURRENT.set(context);
+        return context;
+    }
+
+    /**
+     * Возвращает контекст теста текущего потока.
+     * @return контекст или null, если поток не выполняет тест
+     */
+    public static TestContext current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Отвязывает контекст от текущего потока.
+     */
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Выбирает браузер для тестов текущего потока и потоков, которые он запустит.
+     * @param browser имя браузера (chrome, firefox)
+     */
+    public static void useBrowser(String browser) {
+        BROWSER.set(browser.trim().toLowerCase());
+    }
+
+    /**
+     * Сбрасывает выбор браузера текущего потока.
+     */
+    public static void clearBrowser() {
+        BROWSER.remove();
+    }
+
+    /**
+     * Возвращает браузер текущего потока.
+     * @return браузер, выбранный для потока, иначе значение свойства "browser" (по умолчанию chrome)
+     */
+    public static String browser() {
+        String browser = BROWSER.get();
+        return browser != null ? browser : System.getProperty("browser", "chrome").toLowerCase();
+    }
+
+    public String getTestName() {
+        return testName;
+    }
+
+    public WebDriver getDriver() {
+        return driver;
+    }
+}
@@ -0,0 +1,41 @@
+package ru.praktikum;
+
+import ru.praktikum.replica.ScooterReplica;
+
+/**
+ * Окружение, против которого выполняются тесты.
+ * По умолчанию используется публичный стенд qa-scooter. Системное свойство
+ * "target=local" переключает тесты на локальную копию приложения,
+ * а "base.url" позволяет указать произвольный адрес стенда.
+ */
+public final class TestEnvironment {
+    private static final String DEFAULT_BASE_URL = "https://qa-scooter.praktikum-services.ru/";
+    private static volatile String baseUrl;
+
+    private TestEnvironment() {
+    }
+
+    /**
+     * Возвращает адрес главной страницы приложения (всегда со слэшем на конце).
+     * При выборе локальной копии запускает ее при первом обращении.
+     * @return адрес главной страницы
+     */
+    public static String baseUrl() {
+        if (baseUrl == null) {
+            synchronized (TestEnvironment.class) {
+                if (baseUrl == null) {
+                    baseUrl = resolveBaseUrl();
+                }
+            }
+        }
+        return baseUrl;
+    }
+
+    private static String resolveBaseUrl() {
+        if ("local".equalsIgnoreCase(System.getProperty("target"))) {
+            return ScooterReplica.getInstance().getBaseUrl();
+        }
+        String url = System.getProperty("base.url", DEFAULT_BASE_URL);
+        return url.endsWith("/") ? url : url + "/";
+    }
+}
@@ -1,5 +1,7 @@
 package ru.praktikum.core;
 
+import java.util.Map;
+
 /**
  * Интерфейс для работы с разделом FAQ (Часто задаваемые вопросы).
  * Определяет контракт для взаимодействия с вопросами и ответами в UI.
@@ -20,4 +22,11 @@ public interface FaqService {
      * @throws IllegalStateException если ответ не найден или не отображается
      */
     String getAnswer(int index);
+
+    /**
+     * Раскрывает все вопросы и получает тексты всех ответов за одно обращение к странице.
+     * @return ответы, упорядоченные по индексу вопроса (0-7)
+     * @throws IllegalStateException если вопросы не найдены на странице
+     */
+    Map<Integer, String> getAllAnswers();
 }
\ No newline at end of file
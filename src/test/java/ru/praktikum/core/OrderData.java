@@ -4,17 +4,18 @@ package ru.praktikum.core;
  * Data Transfer Object (DTO) для передачи данных о заказе.
  * Содержит все поля, необходимые для создания заказа.
  * Используется для передачи данных между тестами и сервисами.
+ * Поля неизменяемы, поэтому один экземпляр можно передавать в несколько потоков.
  */
 public class OrderData {
-    public String name;
-    public String surname;
-    public String address;
-    public String metroStation;
-    public String phone;
-    public String deliveryDate;
-    public String rentalPeriod;
-    public String color;
-    public String comment;
+    public final String name;
+    public final String surname;
+    public final String address;
+    public final String metroStation;
+    public final String phone;
+    public final String deliveryDate;
+    public final String rentalPeriod;
+    public final String color;
+    public final String comment;
 
     public OrderData(String name, String surname, String address,
                      String metroStation, String phone, String deliveryDate,
@@ -29,4 +30,10 @@ public class OrderData {
         this.color = color;
         this.comment = comment;
     }
-}
\ No newline at end of file
+
+    @Override
+    public String toString() {
+        return String.join(" | ", name, surname, address, metroStation, phone,
+                deliveryDate, rentalPeriod, color, comment);
+    }
+}
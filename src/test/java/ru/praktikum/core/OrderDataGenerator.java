@@ -0,0 +1,95 @@
+package ru.praktikum.core;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Генератор данных заказа.
+ * При одинаковом seed выдает одинаковую последовательность заказов,
+ * поэтому прогоны на разных версиях приложения сравнимы между собой.
+ * Заказы из {@link #next()} проходят проверки формы (см. {@link OrderValidator}),
+ * а в заказах из {@link #nextInvalid()} ровно одно поле первой страницы формы не проходит проверку.
+ */
+public class OrderDataGenerator {
+    private static final List<String> NAMES = List.of("Иван", "Мария", "Петр", "Анна", "Олег", "Елена", "Дмитрий");
+    private static final List<String> SURNAMES = List.of("Иванов", "Петрова", "Сидоров", "Смирнова", "Кузнецов");
+    private static final List<String> STREETS = List.of("Красная площадь", "Тверская улица", "Арбат",
+            "Ленинский проспект", "Садовая улица");
+    private static final List<String> METRO_STATIONS = List.of("Сокольники", "Черкизовская", "Лубянка",
+            "Театральная", "Китай-город", "Парк культуры");
+    private static final List<String> RENTAL_PERIODS = List.of("сутки", "двое суток", "трое суток",
+            "четверо суток", "пятеро суток", "шестеро суток", "семеро суток");
+    private static final List<String> COLORS = List.of("black", "grey", "");
+    // Значения, которые форма отклоняет: латиница, цифры, слишком короткие и пустые
+    private static final List<String> INVALID_NAMES = List.of("John", "И", "Иван1", "");
+    private static final List<String> INVALID_ADDRESSES = List.of("Дом", "Main street 1", "");
+    private static final List<String> INVALID_PHONES = List.of("123", "телефон", "+7903abc4567", "");
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("dd.MM.yyyy");
+
+    private final Random random;
+
+    /**
+     * Конструктор генератора.
+     * @param seed начальное значение последовательности
+     */
+    public OrderDataGenerator(long seed) {
+        this.random = new Random(seed);
+    }
+
+    /**
+     * Создает следующий заказ с датой доставки в ближайший месяц.
+     * @return новые данные заказа
+     */
+    public OrderData next() {
+        return new OrderData(
+                pick(NAMES),
+                pick(SURNAMES),
+                "Москва, " + pick(STREETS) + ", " + (1 + random.nextInt(99)),
+                pick(METRO_STATIONS),
+                "+79" + String.format("%09d", random.nextInt(1_000_000_000)),
+                LocalDate.now().plusDays(1 + random.nextInt(30)).format(DATE_FORMAT),
+                pick(RENTAL_PERIODS),
+                pick(COLORS),
+                random.nextBoolean() ? "Позвонить за час" : ""
+        );
+    }
+
+    /**
+     * Создает заказ, в котором одно случайное поле первой страницы формы
+     * (имя, фамилия, адрес, станция метро или телефон) не проходит проверку.
+     * @return новые данные заказа
+     */
+    public OrderData nextInvalid() {
+        OrderData valid = next();
+        String name = valid.name;
+        String surname = valid.surname;
+        String address = valid.address;
+        String metro = valid.metroStation;
+        String phone = valid.phone;
+        switch (random.nextInt(5)) {
+            case 0:
+                name = pick(INVALID_NAMES);
+                break;
+            case 1:
+                surname = pick(INVALID_NAMES);
+                break;
+            case 2:
+                address = pick(INVALID_ADDRESSES);
+                break;
+            case 3:
+                metro = "";
+                break;
+            default:
+                phone = pick(INVALID_PHONES);
+                break;
+        }
+        return new OrderData(name, surname, address, metro, phone,
+                valid.deliveryDate, valid.rentalPeriod, valid.color, valid.comment);
+    }
+
+    private String pick(List<String> values) {
+        return values.get(random.nextInt(values.size()));
+    }
+}
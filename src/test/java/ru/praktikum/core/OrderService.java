@@ -23,6 +23,17 @@ public interface OrderService {
      */
     boolean createOrder(OrderData data, boolean useTopButton);
 
+    /**
+     * Создает новый заказ кратчайшим для реализации путем,
+     * без проверки кнопок "Заказать" на главной странице.
+     * @param data объект с данными для создания заказа
+     * @return true если заказ успешно создан, false в случае ошибки
+     * @throws IllegalArgumentException если данные заказа невалидны
+     */
+    default boolean createOrder(OrderData data) {
+        return createOrder(data, true);
+    }
+
     /**
      * Проверяет, подтвержден ли последний созданный заказ.
      * @return true если заказ подтвержден, false в противном случае
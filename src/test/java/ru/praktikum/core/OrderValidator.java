@@ -0,0 +1,46 @@
+package ru.praktikum.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Правила валидации данных заказа, совпадающие с проверками формы заказа в UI.
+ * Позволяет реализациям OrderService без браузера сообщать о тех же ошибках,
+ * что показывает форма.
+ */
+public final class OrderValidator {
+    private static final Pattern NAME = Pattern.compile("[А-Яа-яЁё\\s-]{2,15}");
+    private static final Pattern ADDRESS = Pattern.compile("[А-Яа-яЁё0-9\\s,.\\-]{5,50}");
+    private static final Pattern PHONE = Pattern.compile("\\+?[0-9]{10,12}");
+
+    private OrderValidator() {
+    }
+
+    /**
+     * Проверяет данные первой страницы формы заказа.
+     * @param data данные заказа
+     * @return список названий невалидных полей (пустой, если ошибок нет)
+     * @throws IllegalArgumentException если data равен null
+     */
+    public static List<String> validate(OrderData data) {
+        if (data == null) {
+            throw new IllegalArgumentException("OrderData cannot be null");
+        }
+        List<String> errors = new ArrayList<>();
+        check(errors, "name", data.name, NAME);
+        check(errors, "surname", data.surname, NAME);
+        check(errors, "address", data.address, ADDRESS);
+        if (data.metroStation == null || data.metroStation.trim().isEmpty()) {
+            errors.add("metroStation");
+        }
+        check(errors, "phone", data.phone, PHONE);
+        return errors;
+    }
+
+    private static void check(List<String> errors, String field, String value, Pattern pattern) {
+        if (value == null || !pattern.matcher(value.trim()).matches()) {
+            errors.add(field);
+        }
+    }
+}
@@ -0,0 +1,292 @@
+package ru.praktikum.data;
+
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.json.JsonException;
+import ru.praktikum.core.OrderData;
+import ru.praktikum.core.OrderDataGenerator;
+import ru.praktikum.core.OrderValidator;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Источник данных заказов для сценариев на тысячи строк.
+ * Строки читаются из CSV или JSONL-файла либо генерируются по seed и выдаются потоком
+ * по одной: файл никогда не загружается целиком, поэтому память не растет с размером набора.
+ * Каждый вызов {@link #stream()} читает источник заново с начала и возвращает одинаковую
+ * последовательность, в том числе после отбора {@link #sample(double, long)}.
+ * Поток держит файл открытым и должен закрываться (try-with-resources).
+ */
+public final class OrderDataSource {
+    // Столбцы CSV и ключи JSONL, совпадают с полями OrderData
+    private static final List<String> COLUMNS = List.of("name", "surname", "address", "metroStation", "phone",
+            "deliveryDate", "rentalPeriod", "color", "comment");
+
+    private final Supplier<Stream<OrderData>> rows;
+
+    private OrderDataSource(Supplier<Stream<OrderData>> rows) {
+        this.rows = rows;
+    }
+
+    /**
+     * Источник из CSV-файла с заголовком. Порядок столбцов задается заголовком,
+     * отсутствующие столбцы дают null. Значения с запятыми заключаются в двойные кавычки,
+     * кавычка внутри значения удваивается. Пустые строки и строки с "#" в начале пропускаются.
+     * @param file путь к файлу в UTF-8
+     * @return источник данных
+     */
+    public static OrderDataSource csv(Path file) {
+        return new OrderDataSource(() -> {
+            BufferedReader reader = open(file);
+            List<String> header;
+            try {
+                String line = reader.readLine();
+                header = line == null ? List.of() : parseCsvLine(line.replace("\uFEFF", ""));
+            } catch (IOException e) {
+                close(reader);
+                throw new UncheckedIOException("Failed to read " + file, e);
+            }
+            return lines(file, reader, 2, line -> {
+                List<String> values = parseCsvLine(line);
+                Map<String, String> row = new HashMap<>();
+                for (int i = 0; i < header.size() && i < values.size(); i++) {
+                    row.put(header.get(i).trim(), values.get(i));
+                }
+                return toOrderData(row);
+            });
+        });
+    }
+
+    /**
+     * Источник из JSONL-файла: по одному JSON-объекту с полями OrderData в строке.
+     * Пустые строки пропускаются.
+     * @param file путь к файлу в UTF-8
+     * @return источник данных
+     */
+    public static OrderDataSource jsonl(Path file) {
+        Json json = new Json();
+        return new OrderDataSource(() -> lines(file, open(file), 1, line -> {
+            Map<String, Object> object = json.toType(line, Json.MAP_TYPE);
+            Map<String, String> row = new HashMap<>();
+            object.forEach((key, value) -> row.put(key, value == null ? null : String.valueOf(value)));
+            return toOrderData(row);
+        }));
+    }
+
+    /**
+     * Сгенерированный по seed источник валидных и невалидных заказов, см. {@link OrderDataGenerator}.
+     * @param seed начальное значение последовательности
+     * @param count количество строк
+     * @param invalidRate доля невалидных заказов от 0 до 1
+     * @return источник данных
+     */
+    public static OrderDataSource generated(long seed, long count, double invalidRate) {
+        return new OrderDataSource(() -> {
+            OrderDataGenerator generator = new OrderDataGenerator(seed);
+            // Отдельная последовательность, чтобы выбор невалидных строк не совпадал с отбором sample(rate, seed)
+            SplittableRandom random = new SplittableRandom(seed).split();
+            return Stream.generate(() -> random.nextDouble() < invalidRate ? generator.nextInvalid() : generator.next())
+                    .limit(count);
+        });
+    }
+
+    /**
+     * Источник, настроенный системными свойствами:
+     * "orders.source" - путь к .csv или .jsonl файлу либо "generated" (по умолчанию);
+     * для генерации "orders.count" (1000), "orders.seed" (42) и "orders.invalid.rate" (0.2);
+     * отбор "orders.filter" (all, valid или invalid), "orders.sample" (доля строк, по умолчанию 1)
+     * и "orders.limit" (наибольшее количество строк).
+     * @return источник данных
+     * @throws IllegalArgumentException если значение "orders.filter" неизвестно
+     */
+    public static OrderDataSource fromSystemProperties() {
+        String source = System.getProperty("orders.source", "generated").trim();
+        long seed = Long.getLong("orders.seed", 42);
+        OrderDataSource dataSource;
+        if ("generated".equalsIgnoreCase(source)) {
+            dataSource = generated(seed, Long.getLong("orders.count", 1000),
+                    Double.parseDouble(System.getProperty("orders.invalid.rate", "0.2")));
+        } else if (source.toLowerCase().endsWith(".jsonl")) {
+            dataSource = jsonl(Paths.get(source));
+        } else {
+            dataSource = csv(Paths.get(source));
+        }
+
+        String filter = System.getProperty("orders.filter", "all").trim().toLowerCase();
+        switch (filter) {
+            case "valid":
+                dataSource = dataSource.valid();
+                break;
+            case "invalid":
+                dataSource = dataSource.invalid();
+                break;
+            case "all":
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown orders filter: " + filter + ", expected all, valid or invalid");
+        }
+        double sample = Double.parseDouble(System.getProperty("orders.sample", "1"));
+        if (sample < 1) {
+            dataSource = dataSource.sample(sample, seed);
+        }
+        Long limit = Long.getLong("orders.limit");
+        return limit != null ? dataSource.limit(limit) : dataSource;
+    }
+
+    /**
+     * Оставляет строки, удовлетворяющие условию.
+     * @param condition условие отбора
+     * @return новый источник
+     */
+    public OrderDataSource filter(Predicate<OrderData> condition) {
+        return new OrderDataSource(() -> rows.get().filter(condition));
+    }
+
+    /**
+     * Оставляет заказы, которые проходят проверки формы.
+     * @return новый источник
+     */
+    public OrderDataSource valid() {
+        return filter(data -> OrderValidator.validate(data).isEmpty());
+    }
+
+    /**
+     * Оставляет заказы, которые форма должна отклонить.
+     * @return новый источник
+     */
+    public OrderDataSource invalid() {
+        return filter(data -> !OrderValidator.validate(data).isEmpty());
+    }
+
+    /**
+     * Оставляет случайную долю строк. При одинаковом seed отбираются одни и те же строки.
+     * @param rate доля строк от 0 до 1
+     * @param seed начальное значение отбора
+     * @return новый источник
+     * @throws IllegalArgumentException если доля вне диапазона от 0 до 1
+     */
+    public OrderDataSource sample(double rate, long seed) {
+        if (rate < 0 || rate > 1) {
+            throw new IllegalArgumentException("Sample rate must be between 0 and 1");
+        }
+        return new OrderDataSource(() -> {
+            SplittableRandom random = new SplittableRandom(seed);
+            return rows.get().filter(data -> random.nextDouble() < rate);
+        });
+    }
+
+    /**
+     * Ограничивает количество строк. Чтение файла прекращается после последней нужной строки.
+     * @param maxRows наибольшее количество строк
+     * @return новый источник
+     */
+    public OrderDataSource limit(long maxRows) {
+        return new OrderDataSource(() -> rows.get().limit(maxRows));
+    }
+
+    /**
+     * Открывает последовательный поток строк с начала источника.
+     * @return поток, который нужно закрыть после чтения
+     * @throws UncheckedIOException если файл не удалось прочитать
+     * @throws IllegalArgumentException если строку файла не удалось разобрать
+     */
+    public Stream<OrderData> stream() {
+        return rows.get();
+    }
+
+    private static BufferedReader open(Path file) {
+        try {
+            return Files.newBufferedReader(file, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open " + file, e);
+        }
+    }
+
+    /**
+     * Поток разобранных строк файла. Номер строки нужен только для сообщения об ошибке.
+     */
+    private static Stream<OrderData> lines(Path file, BufferedReader reader, long firstLineNumber,
+                                           Function<String, OrderData> parser) {
+        AtomicLong lineNumber = new AtomicLong(firstLineNumber - 1);
+        return reader.lines()
+                .onClose(() -> close(reader))
+                .filter(line -> {
+                    lineNumber.incrementAndGet();
+                    return !line.trim().isEmpty() && !line.startsWith("#");
+                })
+                .map(line -> {
+                    try {
+                        return parser.apply(line);
+                    } catch (JsonException | IllegalArgumentException e) {
+                        throw new IllegalArgumentException(
+                                "Malformed order row at " + file + ":" + lineNumber.get() + ": " + e.getMessage(), e);
+                    }
+                });
+    }
+
+    private static void close(BufferedReader reader) {
+        try {
+            reader.close();
+        } catch (IOException e) {
+            // Ошибка закрытия после чтения не влияет на данные
+        }
+    }
+
+    private static OrderData toOrderData(Map<String, String> row) {
+        String[] values = new String[COLUMNS.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = row.get(COLUMNS.get(i));
+        }
+        return new OrderData(values[0], values[1], values[2], values[3], values[4],
+                values[5], values[6], values[7], values[8]);
+    }
+
+    /**
+     * Разбирает строку CSV с учетом значений в двойных кавычках.
+     * @throws IllegalArgumentException если кавычка не закрыта
+     */
+    private static List<String> parseCsvLine(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder value = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    value.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    value.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(value.toString());
+                value.setLength(0);
+            } else {
+                value.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("Unclosed quote");
+        }
+        values.add(value.toString());
+        return values;
+    }
+}
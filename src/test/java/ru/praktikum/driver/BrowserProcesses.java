@@ -0,0 +1,147 @@
+package ru.praktikum.driver;
+
+import org.openqa.selenium.WebDriver;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.WeakHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Процессы браузеров, запущенных тестами, и потребляемая ими память.
+ * Сессия связывается с процессом драйвера по порту, на котором его запустил Selenium,
+ * а память сессии считается по всему дереву процессов драйвера (драйвер, браузер,
+ * его рендереры и GPU-процесс). На Linux используется PSS из /proc/&lt;pid&gt;/smaps_rollup,
+ * в котором общие страницы делятся между процессами, иначе VmRSS.
+ */
+public final class BrowserProcesses {
+    private static final Path MEMINFO = Paths.get("/proc/meminfo");
+    private static final Map<WebDriver, Session> SESSIONS = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private BrowserProcesses() {
+    }
+
+    /**
+     * Запоминает порт драйвера новой сессии.
+     * @param driver сессия
+     * @param browser имя браузера
+     * @param servicePort порт, на котором запущен процесс драйвера
+     */
+    public static void register(WebDriver driver, String browser, int servicePort) {
+        SESSIONS.put(driver, new Session(browser, servicePort));
+    }
+
+    /**
+     * Находит процесс драйвера сессии.
+     * @param driver сессия, запущенная через DriverFactory
+     * @return процесс драйвера или пустое значение, если он не найден или уже завершен
+     */
+    public static Optional<ProcessHandle> driverProcess(WebDriver driver) {
+        Session session = SESSIONS.get(driver);
+        if (session == null) {
+            return Optional.empty();
+        }
+        if (session.process == null || !session.process.isAlive()) {
+            String portArgument = "--port=" + session.port;
+            session.process = ProcessHandle.current().descendants()
+                    .filter(process -> process.info().arguments()
+                            .map(arguments -> hasPort(Arrays.asList(arguments), portArgument, session.port))
+                            .orElse(false))
+                    .findFirst()
+                    .orElse(null);
+        }
+        return Optional.ofNullable(session.process);
+    }
+
+    /**
+     * Возвращает имя сессии для отчетов: браузер и идентификатор процесса драйвера.
+     * @param driver сессия
+     * @return имя сессии
+     */
+    public static String label(WebDriver driver) {
+        Session session = SESSIONS.get(driver);
+        String browser = session != null ? session.browser : "unknown";
+        return driverProcess(driver).map(process -> browser + "#" + process.pid()).orElse(browser + "#?");
+    }
+
+    /**
+     * Считает память дерева процессов драйвера.
+     * @param driverProcess процесс драйвера
+     * @return память в килобайтах, 0 если ее не удалось определить
+     */
+    public static long treeMemoryKb(ProcessHandle driverProcess) {
+        return Stream.concat(Stream.of(driverProcess), driverProcess.descendants())
+                .mapToLong(process -> processMemoryKb(process.pid()))
+                .sum();
+    }
+
+    /**
+     * Возвращает объем памяти, доступной для новых процессов без вытеснения в swap.
+     * @return память в килобайтах
+     */
+    @SuppressWarnings("deprecation")
+    public static long availableMemoryKb() {
+        long available = readKb(MEMINFO, "MemAvailable:");
+        if (available >= 0) {
+            return available;
+        }
+        java.lang.management.OperatingSystemMXBean bean = ManagementFactory.getOperatingSystemMXBean();
+        if (bean instanceof com.sun.management.OperatingSystemMXBean) {
+            return ((com.sun.management.OperatingSystemMXBean) bean).getFreePhysicalMemorySize() / 1024;
+        }
+        return Long.MAX_VALUE;
+    }
+
+    private static long processMemoryKb(long pid) {
+        long pss = readKb(Paths.get("/proc", String.valueOf(pid), "smaps_rollup"), "Pss:");
+        if (pss >= 0) {
+            return pss;
+        }
+        return Math.max(0, readKb(Paths.get("/proc", String.valueOf(pid), "status"), "VmRSS:"));
+    }
+
+    /**
+     * Читает значение в килобайтах из файлов /proc вида "Ключ:   12345 kB".
+     * @return значение или -1, если файл или ключ недоступны
+     */
+    private static long readKb(Path file, String key) {
+        try {
+            for (String line : Files.readAllLines(file, StandardCharsets.US_ASCII)) {
+                if (line.startsWith(key)) {
+                    return Long.parseLong(line.substring(key.length()).replace("kB", "").trim());
+                }
+            }
+        } catch (IOException | NumberFormatException e) {
+            // Процесс уже завершился или /proc недоступен
+        }
+        return -1;
+    }
+
+    private static boolean hasPort(List<String> arguments, String portArgument, int port) {
+        int index = arguments.indexOf("--port");
+        return arguments.contains(portArgument)
+                || index >= 0 && index + 1 < arguments.size() && arguments.get(index + 1).equals(String.valueOf(port));
+    }
+
+    /**
+     * Сведения о сессии: браузер, порт драйвера и найденный по нему процесс.
+     */
+    private static class Session {
+        private final String browser;
+        private final int port;
+        private volatile ProcessHandle process;
+
+        Session(String browser, int port) {
+            this.browser = browser;
+            this.port = port;
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package ru.praktikum.driver;
+
+import org.openqa.selenium.PageLoadStrategy;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.firefox.FirefoxOptions;
+
+/**
+ * Профили запуска браузера, выбираются системным свойством "profile".
+ * DEFAULT - видимый браузер с настройками по умолчанию;
+ * HEADLESS - тот же браузер без окна;
+ * FAST - headless без фоновых сервисов, расширений, GPU и анимаций,
+ * со стратегией загрузки страницы "eager";
+ * LEAN - FAST с отключенной загрузкой изображений (не подходит для тестов,
+ * кликающих по логотипам-картинкам).
+ */
+public enum BrowserProfile {
+    DEFAULT(false, false, false),
+    HEADLESS(true, false, false),
+    FAST(true, true, false),
+    LEAN(true, true, true);
+
+    private final boolean headless;
+    private final boolean optimized;
+    private final boolean noImages;
+
+    BrowserProfile(boolean headless, boolean optimized, boolean noImages) {
+        this.headless = headless;
+        this.optimized = optimized;
+        this.noImages = noImages;
+    }
+
+    /**
+     * Возвращает профиль, выбранный системным свойством "profile".
+     * @return выбранный профиль, по умолчанию DEFAULT
+     * @throws IllegalArgumentException если профиль с таким именем не существует
+     */
+    public static BrowserProfile current() {
+        return valueOf(System.getProperty("profile", "default").trim().toUpperCase());
+    }
+
+    /**
+     * Применяет профиль к настройкам Chrome.
+     * @param options настройки Chrome
+     */
+    public void apply(ChromeOptions options) {
+        if (headless) {
+            options.addArguments("--headless=new");
+        }
+        if (optimized) {
+            options.addArguments(
+                    "--disable-extensions",
+                    "--disable-gpu",
+                    "--disable-background-networking",
+                    "--disable-background-timer-throttling",
+                    "--disable-renderer-backgrounding",
+                    "--disable-default-apps",
+                    "--disable-sync",
+                    "--no-first-run",
+                    "--mute-audio",
+                    "--force-prefers-reduced-motion"
+            );
+            options.setPageLoadStrategy(PageLoadStrategy.EAGER);
+        }
+        if (noImages) {
+            options.addArguments("--blink-settings=imagesEnabled=false");
+        }
+    }
+
+    /**
+     * Применяет профиль к настройкам Firefox.
+     * @param options настройки Firefox
+     */
+    public void apply(FirefoxOptions options) {
+        if (headless) {
+            options.addArguments("-headless");
+        }
+        if (optimized) {
+            options.addPreference("app.update.auto", false);
+            options.addPreference("extensions.update.enabled", false);
+            options.addPreference("browser.shell.checkDefaultBrowser", false);
+            options.addPreference("datareporting.policy.dataSubmissionEnabled", false);
+            options.addPreference("toolkit.telemetry.enabled", false);
+            options.addPreference("network.prefetch-next", false);
+            options.addPreference("toolkit.cosmeticAnimations.enabled", false);
+            options.addPreference("ui.prefersReducedMotion", 1);
+            options.setPageLoadStrategy(PageLoadStrategy.EAGER);
+        }
+        if (noImages) {
+            options.addPreference("permissions.default.image", 2);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package ru.praktikum.driver;
+
+import org.junit.AssumptionViolatedException;
+import org.junit.rules.TestRule;
+import org.junit.runner.Description;
+import org.junit.runners.model.Statement;
+import ru.praktikum.DomOnly;
+import ru.praktikum.OrderServiceOnly;
+import ru.praktikum.TestContext;
+import java.lang.annotation.Annotation;
+
+/**
+ * Выбор браузера для теста с учетом аннотации {@link DomOnly}.
+ * Во встроенном браузере HtmlUnit выполняются только тесты с этой аннотацией,
+ * остальные пропускаются до запуска браузера. При "lightweight=true" тесты
+ * с аннотацией переводятся на HtmlUnit, а остальные выполняются в браузере из TestContext.
+ * Тесты с {@link OrderServiceOnly} при "order.service=api" браузер не получают вовсе.
+ */
+public class BrowserRule implements TestRule {
+    public static final String HTMLUNIT = "htmlunit";
+    private static final boolean LIGHTWEIGHT = Boolean.getBoolean("lightweight");
+    private static final boolean API_ORDER_SERVICE = "api".equalsIgnoreCase(System.getProperty("order.service"));
+
+    private String browser;
+    private boolean browserRequired = true;
+
+    @Override
+    public Statement apply(Statement base, Description description) {
+        return new Statement() {
+            @Override
+            public void evaluate() throws Throwable {
+                boolean domOnly = isMarked(description, DomOnly.class);
+                browserRequired = !(API_ORDER_SERVICE && isMarked(description, OrderServiceOnly.class));
+                browser = LIGHTWEIGHT && domOnly ? HTMLUNIT : TestContext.browser();
+                if (HTMLUNIT.equals(browser) && !domOnly && browserRequired) {
+                    throw new AssumptionViolatedException(
+                            description.getDisplayName() + " needs a real browser: it is not marked @DomOnly");
+                }
+                base.evaluate();
+            }
+        };
+    }
+
+    /**
+     * Определяет, нужен ли текущему тесту браузер.
+     * @return false для тестов с {@link OrderServiceOnly} при "order.service=api"
+     */
+    public boolean isBrowserRequired() {
+        return browserRequired;
+    }
+
+    /**
+     * Возвращает браузер текущего теста.
+     * @return имя браузера
+     */
+    public String getBrowser() {
+        return browser != null ? browser : TestContext.browser();
+    }
+
+    private static boolean isMarked(Description description, Class<? extends Annotation> annotation) {
+        return description.getAnnotation(annotation) != null
+                || description.getTestClass() != null && description.getTestClass().isAnnotationPresent(annotation);
+    }
+}
@@ -0,0 +1,88 @@
+package ru.praktikum.driver;
+
+import io.github.bonigarcia.wdm.WebDriverManager;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Разрешение исполняемых файлов драйверов (chromedriver, geckodriver).
+ * Драйвер разрешается один раз на JVM: повторные вызовы берут путь из памяти.
+ * В офлайн-режиме ("driver.offline=true") сеть не используется,
+ * драйвер ищется в заранее заполненном каталоге кэша ("driver.cache").
+ */
+public final class DriverBinaries {
+    private static final String DEFAULT_CACHE =
+            System.getProperty("user.home") + File.separator + ".cache" + File.separator + "selenium";
+    private static final Map<String, String> RESOLVED = new ConcurrentHashMap<>();
+
+    private DriverBinaries() {
+    }
+
+    /**
+     * Разрешает драйвер для браузера и прописывает путь к нему в системное свойство.
+     * @param browser имя браузера: "chrome" или "firefox"
+     * @return путь к исполняемому файлу драйвера
+     * @throws IllegalStateException если в офлайн-режиме драйвер не найден в кэше
+     */
+    public static String resolve(String browser) {
+        return RESOLVED.computeIfAbsent(browser, DriverBinaries::doResolve);
+    }
+
+    private static String doResolve(String browser) {
+        boolean firefox = "firefox".equals(browser);
+        String property = firefox ? "webdriver.gecko.driver" : "webdriver.chrome.driver";
+        String binary = firefox ? "geckodriver" : "chromedriver";
+
+        // Явно заданный путь к драйверу имеет приоритет
+        String configured = System.getProperty(property);
+        if (configured != null && new File(configured).canExecute()) {
+            return configured;
+        }
+
+        String cachePath = System.getProperty("driver.cache", DEFAULT_CACHE);
+        String path;
+        if (Boolean.getBoolean("driver.offline")) {
+            path = findInCache(Paths.get(cachePath), binary)
+                    .orElseThrow(() -> new IllegalStateException(
+                            "No " + binary + " found in offline driver cache " + cachePath));
+        } else {
+            WebDriverManager manager = firefox ? WebDriverManager.firefoxdriver() : WebDriverManager.chromedriver();
+            manager.cachePath(cachePath).setup();
+            path = manager.getDownloadedDriverPath();
+        }
+
+        System.setProperty(property, path);
+        System.out.println("Resolved " + binary + ": " + path);
+        return path;
+    }
+
+    /**
+     * Ищет самый свежий исполняемый файл драйвера в каталоге кэша.
+     */
+    private static Optional<String> findInCache(Path cacheDir, String binary) {
+        if (!Files.isDirectory(cacheDir)) {
+            return Optional.empty();
+        }
+        try (Stream<Path> files = Files.walk(cacheDir)) {
+            return files
+                    .filter(file -> {
+                        String name = file.getFileName().toString();
+                        return name.equals(binary) || name.equals(binary + ".exe");
+                    })
+                    .filter(Files::isExecutable)
+                    .max(Comparator.comparingLong(file -> file.toFile().lastModified()))
+                    .map(Path::toString);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to scan driver cache " + cacheDir, e);
+        }
+    }
+}
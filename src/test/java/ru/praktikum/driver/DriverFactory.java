@@ -0,0 +1,105 @@
+package ru.praktikum.driver;
+
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeDriverService;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.firefox.FirefoxDriver;
+import org.openqa.selenium.firefox.FirefoxOptions;
+import org.openqa.selenium.firefox.GeckoDriverService;
+import org.openqa.selenium.remote.service.DriverService;
+import ru.praktikum.pages.support.PerformanceProbe;
+import java.time.Duration;
+
+/**
+ * Фабрика экземпляров WebDriver.
+ * Создает браузер по имени или в зависимости от системного свойства "browser".
+ */
+public final class DriverFactory {
+    private DriverFactory() {
+    }
+
+    /**
+     * Запускает новый браузер, выбранный системным свойством "browser".
+     * @return новый экземпляр WebDriver
+     */
+    public static WebDriver create() {
+        return create(System.getProperty("browser", "chrome"));
+    }
+
+    /**
+     * Запускает новый браузер.
+     * Поддерживает Chrome (по умолчанию), Firefox и HtmlUnit (браузер внутри JVM, см. {@link BrowserRule}).
+     * Настройки запуска дополняются профилем из системного свойства "profile".
+     * Драйвер разрешается один раз на JVM, см. {@link DriverBinaries}.
+     * @param browser имя браузера
+     * @return новый экземпляр WebDriver
+     */
+    public static WebDriver create(String browser) {
+        browser = browser.toLowerCase();
+        if (BrowserRule.HTMLUNIT.equals(browser)) {
+            return createHtmlUnit();
+        }
+        long resolveStart = System.nanoTime();
+        DriverBinaries.resolve("firefox".equals(browser) ? "firefox" : "chrome");
+        SetupTimer.record("resolve", resolveStart);
+
+        BrowserProfile profile = BrowserProfile.current();
+        long launchStart = System.nanoTime();
+        WebDriver driver;
+        // Сервис драйвера создается явно: по его порту находится процесс браузера, см. BrowserProcesses
+        DriverService service;
+        switch (browser) {
+            case "firefox":
+                FirefoxOptions firefoxOptions = new FirefoxOptions();
+                firefoxOptions.addArguments("--width=1920");
+                firefoxOptions.addArguments("--height=1080");
+                profile.apply(firefoxOptions);
+                GeckoDriverService geckoService = GeckoDriverService.createDefaultService();
+                service = geckoService;
+                driver = new FirefoxDriver(geckoService, firefoxOptions);
+                break;
+            case "chrome":
+            default:
+                ChromeOptions options = new ChromeOptions();
+                options.addArguments(
+                        "--window-size=1920,1080",
+                        "--no-sandbox",
+                        "--disable-dev-shm-usage"
+                );
+                profile.apply(options);
+                ChromeDriverService chromeService = ChromeDriverService.createDefaultService();
+                service = chromeService;
+                driver = new ChromeDriver(chromeService, options);
+                break;
+        }
+
+        // Неявные ожидания отключены: все ожидания выполняет WaitEngine,
+        // иначе при промахах оба механизма складываются
+        driver.manage().timeouts().implicitlyWait(Duration.ZERO);
+        NetworkControl.apply(driver);
+        PerformanceProbe.install(driver);
+        BrowserProcesses.register(driver, "firefox".equals(browser) ? "firefox" : "chrome",
+                service.getUrl().getPort());
+        SetupTimer.record("launch", launchStart);
+        ProfileStats.recordLaunch(System.nanoTime() - launchStart);
+        return driver;
+    }
+
+    /**
+     * Запускает HtmlUnit, см. {@link InJvmDriver}.
+     * Процесс драйвера и профили запуска не используются.
+     */
+    private static WebDriver createHtmlUnit() {
+        long launchStart = System.nanoTime();
+        WebDriver driver = new InJvmDriver();
+        driver.manage().window().setSize(new Dimension(1920, 1080));
+        driver.manage().timeouts().implicitlyWait(Duration.ZERO);
+        // По умолчанию HtmlUnit не ждет асинхронных скриптов, в Chrome ожидание 30 секунд
+        driver.manage().timeouts().scriptTimeout(Duration.ofSeconds(30));
+        SetupTimer.record("launch", launchStart);
+        ProfileStats.recordLaunch(System.nanoTime() - launchStart);
+        return driver;
+    }
+}
@@ -0,0 +1,223 @@
+package ru.praktikum.driver;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Пул сессий WebDriver.
+ * Вместо запуска нового браузера на каждый тест выдает уже запущенную сессию,
+ * а после теста сбрасывает ее состояние (куки, хранилище, лишние окна)
+ * и возвращает в пул. Сломанные сессии обнаруживаются и заменяются новыми.
+ */
+public class DriverPool implements DriverProvider {
+    private final String name;
+    private final int size;
+    private final String resetUrl;
+    private final Supplier<WebDriver> factory;
+    private final Consumer<WebDriver> beforeResetNavigation;
+    private final BlockingDeque<WebDriver> idle = new LinkedBlockingDeque<>();
+    private final Semaphore permits;
+    // Исходное окно каждой сессии, к которому она возвращается при сбросе
+    private final Map<WebDriver, String> mainWindows = new ConcurrentHashMap<>();
+
+    // Статистика работы пула
+    private final AtomicInteger launches = new AtomicInteger();
+    private final AtomicInteger reuses = new AtomicInteger();
+    private final AtomicInteger replaced = new AtomicInteger();
+    private final AtomicLong launchNanos = new AtomicLong();
+
+    /**
+     * Конструктор пула.
+     * @param size максимальное количество одновременно открытых сессий
+     * @param resetUrl страница, на которую возвращается сессия после сброса
+     * @param factory фабрика новых сессий
+     * @throws IllegalArgumentException если размер пула меньше 1
+     */
+    public DriverPool(int size, String resetUrl, Supplier<WebDriver> factory) {
+        this(size, resetUrl, factory, driver -> { });
+    }
+
+    /**
+     * Конструктор пула с подготовкой сессии после сброса.
+     * @param size максимальное количество одновременно открытых сессий
+     * @param resetUrl страница, на которую возвращается сессия после сброса
+     * @param factory фабрика новых сессий
+     * @param beforeResetNavigation действие над очищенной сессией перед открытием resetUrl
+     *                              (например, запись куки согласия)
+     * @throws IllegalArgumentException если размер пула меньше 1
+     */
+    public DriverPool(int size, String resetUrl, Supplier<WebDriver> factory,
+                      Consumer<WebDriver> beforeResetNavigation) {
+        this("default", size, resetUrl, factory, beforeResetNavigation);
+    }
+
+    /**
+     * Конструктор именованного пула, например отдельного пула для каждого браузера.
+     * @param name имя пула в статистике
+     * @param size максимальное количество одновременно открытых сессий
+     * @param resetUrl страница, на которую возвращается сессия после сброса
+     * @param factory фабрика новых сессий
+     * @param beforeResetNavigation действие над очищенной сессией перед открытием resetUrl
+     * @throws IllegalArgumentException если размер пула меньше 1
+     */
+    public DriverPool(String name, int size, String resetUrl, Supplier<WebDriver> factory,
+                      Consumer<WebDriver> beforeResetNavigation) {
+        if (size < 1) {
+            throw new IllegalArgumentException("Pool size must be positive");
+        }
+        this.name = name;
+        this.size = size;
+        this.resetUrl = resetUrl;
+        this.factory = factory;
+        this.beforeResetNavigation = beforeResetNavigation;
+        this.permits = new Semaphore(size, true);
+        Runtime.getRuntime().addShutdownHook(new Thread(this::shutdown, "driver-pool-shutdown"));
+    }
+
+    /**
+     * Выдает сессию из пула, при необходимости запуская новый браузер.
+     * Блокируется, если все сессии пула заняты.
+     * @return готовый к работе WebDriver
+     */
+    @Override
+    public WebDriver acquire() {
+        permits.acquireUninterruptibly();
+        try {
+            WebDriver driver;
+            while ((driver = idle.pollFirst()) != null) {
+                if (isAlive(driver)) {
+                    reuses.incrementAndGet();
+                    return driver;
+                }
+                replaced.incrementAndGet();
+                quitQuietly(driver);
+            }
+            return launch();
+        } catch (RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Возвращает сессию в пул после сброса ее состояния.
+     * Если сброс не удался, сессия закрывается и будет заменена новой.
+     * @param driver сессия, полученная через {@link #acquire()}
+     */
+    @Override
+    public void release(WebDriver driver) {
+        if (driver == null) {
+            return;
+        }
+        try {
+            reset(driver);
+            idle.offerFirst(driver);
+        } catch (RuntimeException e) {
+            // Кроме сломанной сессии (WebDriverException) сброс может прервать, например,
+            // неожиданный результат скрипта: такая сессия тоже не возвращается в пул
+            System.out.println("Driver session is broken, discarding it: " + e);
+            replaced.incrementAndGet();
+            quitQuietly(driver);
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * Закрывает все свободные сессии и выводит статистику пула.
+     */
+    public void shutdown() {
+        List<WebDriver> drivers = new ArrayList<>();
+        idle.drainTo(drivers);
+        drivers.forEach(this::quitQuietly);
+        System.out.println(getStats());
+    }
+
+    /**
+     * Формирует отчет о запусках и переиспользовании сессий.
+     * @return строка со статистикой пула
+     */
+    public String getStats() {
+        int launched = launches.get();
+        long avgLaunchMs = launched == 0 ? 0 : launchNanos.get() / launched / 1_000_000;
+        return String.format(
+                "Driver pool [%s]: size=%d, launches=%d, reuses=%d, replaced=%d, avg launch=%d ms, saved ~%d ms",
+                name, size, launched, reuses.get(), replaced.get(), avgLaunchMs, reuses.get() * avgLaunchMs);
+    }
+
+    private WebDriver launch() {
+        long start = System.nanoTime();
+        WebDriver driver = factory.get();
+        mainWindows.put(driver, driver.getWindowHandle());
+        launchNanos.addAndGet(System.nanoTime() - start);
+        launches.incrementAndGet();
+        return driver;
+    }
+
+    /**
+     * Сбрасывает состояние сессии: закрывает лишние окна,
+     * очищает куки и хранилище, открывает стартовую страницу.
+     * @throws WebDriverException если сессия сломана, например в ней не осталось окон
+     */
+    private void reset(WebDriver driver) {
+        Set<String> handles = driver.getWindowHandles();
+        if (handles.isEmpty()) {
+            throw new WebDriverException("Session has no open windows");
+        }
+        String mainWindow = mainWindows.get(driver);
+        if (mainWindow == null || !handles.contains(mainWindow)) {
+            mainWindow = handles.iterator().next();
+            mainWindows.put(driver, mainWindow);
+        }
+        for (String handle : handles) {
+            if (!handle.equals(mainWindow)) {
+                driver.switchTo().window(handle);
+                driver.close();
+            }
+        }
+        driver.switchTo().window(mainWindow);
+
+        driver.manage().deleteAllCookies();
+        try {
+            ((JavascriptExecutor) driver).executeScript(
+                    "window.localStorage.clear(); window.sessionStorage.clear();");
+        } catch (WebDriverException e) {
+            // Хранилище недоступно на некоторых страницах (например, about:blank)
+        }
+        beforeResetNavigation.accept(driver);
+        driver.get(resetUrl);
+    }
+
+    private boolean isAlive(WebDriver driver) {
+        try {
+            driver.getWindowHandle();
+            return true;
+        } catch (WebDriverException e) {
+            return false;
+        }
+    }
+
+    private void quitQuietly(WebDriver driver) {
+        mainWindows.remove(driver);
+        try {
+            driver.quit();
+        } catch (WebDriverException e) {
+            System.out.println("Failed to quit driver: " + e.getMessage());
+        } finally {
+            MemoryGovernor.get().release(driver);
+        }
+    }
+}
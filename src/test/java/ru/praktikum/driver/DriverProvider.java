@@ -0,0 +1,24 @@
+package ru.praktikum.driver;
+
+import org.openqa.selenium.WebDriver;
+
+/**
+ * Источник сессий WebDriver для тестов.
+ * Реализация определяет жизненный цикл браузера: переиспользование сессий
+ * ({@link DriverPool}) или новая сессия на каждый тест с заблаговременным запуском
+ * и фоновым закрытием ({@link PipelinedDriverProvider}).
+ */
+public interface DriverProvider {
+
+    /**
+     * Выдает сессию для теста.
+     * @return готовый к работе WebDriver
+     */
+    WebDriver acquire();
+
+    /**
+     * Возвращает сессию после теста.
+     * @param driver сессия, полученная через {@link #acquire()}
+     */
+    void release(WebDriver driver);
+}
@@ -0,0 +1,137 @@
+package ru.praktikum.driver;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Фоновое закрытие сессий WebDriver.
+ * quit() выполняется в отдельных потоках, поэтому следующий тест не ждет закрытия браузера.
+ * Количество незакрытых сессий ограничено: при превышении лимита передача новой сессии
+ * блокируется, чтобы закрывающиеся браузеры не копились в памяти.
+ * При завершении работы процессы драйверов переданных этому экземпляру сессий, которые
+ * не закрылись вовремя, принудительно завершаются вместе с запущенными ими браузерами.
+ * Процессы сессий других экземпляров (например, другого браузера в матричном прогоне) не затрагиваются.
+ */
+public class DriverReaper {
+    private final ExecutorService executor;
+    private final Semaphore pending;
+    private final AtomicInteger quits = new AtomicInteger();
+    private final AtomicInteger failures = new AtomicInteger();
+    private final AtomicLong quitNanos = new AtomicLong();
+    private final AtomicInteger killed = new AtomicInteger();
+    // Процессы драйверов переданных сессий, которые еще не закрылись
+    private final Set<ProcessHandle> driverProcesses = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Конструктор.
+     * @param threads количество потоков закрытия
+     * @param maxPending максимальное количество сессий, ожидающих закрытия
+     * @throws IllegalArgumentException если параметры меньше 1
+     */
+    public DriverReaper(int threads, int maxPending) {
+        if (threads < 1 || maxPending < 1) {
+            throw new IllegalArgumentException("Reaper threads and pending limit must be positive");
+        }
+        AtomicInteger counter = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "driver-reaper-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.pending = new Semaphore(maxPending);
+    }
+
+    /**
+     * Передает сессию на закрытие в фоне.
+     * Блокируется, если лимит сессий, ожидающих закрытия, исчерпан.
+     * @param driver сессия для закрытия
+     */
+    public void submit(WebDriver driver) {
+        pending.acquireUninterruptibly();
+        // Процесс ищется до quit(), пока драйвер еще жив
+        ProcessHandle driverProcess = BrowserProcesses.driverProcess(driver).orElse(null);
+        if (driverProcess != null) {
+            driverProcesses.add(driverProcess);
+        }
+        try {
+            executor.execute(() -> {
+                long start = System.nanoTime();
+                try {
+                    driver.quit();
+                    if (driverProcess != null) {
+                        driverProcesses.remove(driverProcess);
+                    }
+                    quits.incrementAndGet();
+                    quitNanos.addAndGet(System.nanoTime() - start);
+                } catch (WebDriverException e) {
+                    failures.incrementAndGet();
+                    System.out.println("Failed to quit driver in background: " + e.getMessage());
+                } finally {
+                    MemoryGovernor.get().release(driver);
+                    pending.release();
+                }
+            });
+        } catch (RuntimeException e) {
+            pending.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Дожидается закрытия переданных сессий и принудительно завершает
+     * оставшиеся процессы драйверов и браузеров.
+     * @param timeout время ожидания фонового закрытия
+     */
+    public void shutdown(Duration timeout) {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(timeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                System.out.println("Driver reaper did not finish in " + timeout.getSeconds() + " s");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        killLeakedDrivers();
+        System.out.println(getStats());
+    }
+
+    /**
+     * Формирует отчет о закрытых сессиях.
+     * @return строка со статистикой
+     */
+    public String getStats() {
+        int closed = quits.get();
+        return String.format("Driver reaper: quits=%d, avg quit=%d ms, failed=%d, force-killed processes=%d",
+                closed, closed == 0 ? 0 : quitNanos.get() / closed / 1_000_000, failures.get(), killed.get());
+    }
+
+    /**
+     * Завершает незакрывшиеся процессы драйверов переданных сессий и их потомков (браузеры).
+     * Потомки собираются до завершения драйвера, пока они еще числятся в его дереве процессов.
+     */
+    private void killLeakedDrivers() {
+        for (ProcessHandle driver : driverProcesses) {
+            if (!driver.isAlive()) {
+                continue;
+            }
+            List<ProcessHandle> tree = driver.descendants().collect(Collectors.toList());
+            tree.add(driver);
+            for (ProcessHandle process : tree) {
+                if (process.isAlive() && process.destroyForcibly()) {
+                    killed.incrementAndGet();
+                }
+            }
+        }
+    }
+}
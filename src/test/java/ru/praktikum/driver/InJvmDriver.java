@@ -0,0 +1,32 @@
+package ru.praktikum.driver;
+
+import org.htmlunit.BrowserVersion;
+import org.htmlunit.WebClient;
+import org.htmlunit.util.Cookie;
+import org.openqa.selenium.htmlunit.HtmlUnitDriver;
+import ru.praktikum.pages.support.HeadlessDom;
+import java.net.URI;
+
+/**
+ * HtmlUnit с эмуляцией Chrome и включенным JavaScript.
+ * Ошибки скриптов и статусы ответов страницы не прерывают тест, как и в настоящем браузере.
+ * Куки записываются напрямую в хранилище клиента, см. {@link HeadlessDom}.
+ */
+class InJvmDriver extends HtmlUnitDriver implements HeadlessDom {
+    InJvmDriver() {
+        super(BrowserVersion.CHROME, true);
+    }
+
+    @Override
+    protected WebClient modifyWebClient(WebClient client) {
+        client.getOptions().setThrowExceptionOnScriptError(false);
+        client.getOptions().setPrintContentOnFailingStatusCode(false);
+        return client;
+    }
+
+    @Override
+    public void addCookie(String url, String name, String value) {
+        String host = URI.create(url).getHost();
+        getWebClient().getCookieManager().addCookie(new Cookie(host, name, value, "/", null, false));
+    }
+}
@@ -0,0 +1,262 @@
+package ru.praktikum.driver;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.json.Json;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Допуск новых сессий браузера с учетом свободной памяти.
+ * Перед запуском процесса браузера (см. {@link #launch(String, Supplier)}) поток ждет, пока после
+ * запуска в системе останется запас памяти "memory.headroom.mb". Сессия занимает место, пока
+ * ее не закроют, а переиспользование уже запущенной сессии допуска не требует. Сессии, которые еще
+ * запускаются и не попали в замер свободной памяти, резервируют под себя оценку до первого
+ * замера их процессов, поэтому одновременно стартующие потоки не допускаются все сразу. Память одной сессии
+ * оценивается по наибольшему наблюдаемому пику дерева процессов браузера, а до первых замеров
+ * берется "memory.session.mb". Так при нехватке памяти новые браузеры ждут закрытия текущих,
+ * а при ее избытке (или если сессии легче оценки) параллельность растет до числа потоков тестов.
+ * Хотя бы одна сессия допускается всегда, а ожидание длится не дольше "memory.admit.timeout.ms"
+ * (например, если место заняли свободные сессии пула), чтобы прогон не зависал.
+ * HtmlUnit работает внутри JVM и допуска не требует.
+ * Фоновый опрос раз в "memory.poll.ms" фиксирует пики памяти по сессиям и тестовым классам,
+ * отчет выводится в конце прогона и записывается в target/memory-report.json.
+ * Отключается свойством "memory.guard=false".
+ */
+public final class MemoryGovernor {
+    private static final boolean ENABLED = !"false".equalsIgnoreCase(System.getProperty("memory.guard"));
+    private static final long HEADROOM_KB = Long.getLong("memory.headroom.mb", 1024) * 1024;
+    private static final long INITIAL_SESSION_KB = Long.getLong("memory.session.mb", 500) * 1024;
+    private static final long POLL_MILLIS = Long.getLong("memory.poll.ms", 500);
+    private static final long ADMIT_TIMEOUT_MILLIS = Long.getLong("memory.admit.timeout.ms", 60_000);
+    private static final Path REPORT_FILE = Paths.get("target", "memory-report.json");
+    private static final MemoryGovernor INSTANCE = new MemoryGovernor();
+
+    // Запущенные и еще не закрытые сессии
+    private final Set<WebDriver> launched = ConcurrentHashMap.newKeySet();
+    // Запущенные сессии, память которых еще не замерена
+    private final Set<WebDriver> unmeasured = ConcurrentHashMap.newKeySet();
+    // Сессии, выданные тестам, и тестовые классы, которые их используют
+    private final Map<WebDriver, String> active = new ConcurrentHashMap<>();
+    private final Map<String, Long> sessionPeaksKb = new ConcurrentHashMap<>();
+    private final Map<String, Long> classPeaksKb = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService sampler;
+    private int admitted;
+    // Допущенные сессии без замера памяти: их память еще не видна в MemAvailable
+    private int inFlight;
+    private long largestSessionKb;
+    private long minAvailableKb = Long.MAX_VALUE;
+    private int waits;
+    private long waitedNanos;
+
+    private MemoryGovernor() {
+        if (ENABLED) {
+            sampler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "memory-governor");
+                thread.setDaemon(true);
+                return thread;
+            });
+            sampler.scheduleWithFixedDelay(this::sample, POLL_MILLIS, POLL_MILLIS, TimeUnit.MILLISECONDS);
+            Runtime.getRuntime().addShutdownHook(new Thread(this::report, "memory-report"));
+        } else {
+            sampler = null;
+        }
+    }
+
+    public static MemoryGovernor get() {
+        return INSTANCE;
+    }
+
+    /**
+     * Запускает сессию, когда памяти хватит еще на одну, и занимает место под нее до закрытия
+     * сессии (см. {@link #release(WebDriver)}).
+     * @param browser имя браузера
+     * @param factory запуск сессии
+     * @return запущенная сессия
+     */
+    public WebDriver launch(String browser, Supplier<WebDriver> factory) {
+        if (!ENABLED || BrowserRule.HTMLUNIT.equalsIgnoreCase(browser)) {
+            return factory.get();
+        }
+        long admitStart = System.nanoTime();
+        admit();
+        SetupTimer.record("admit", admitStart);
+        WebDriver driver;
+        try {
+            driver = factory.get();
+        } catch (RuntimeException e) {
+            measured();
+            freeSlot();
+            throw e;
+        }
+        unmeasured.add(driver);
+        launched.add(driver);
+        return driver;
+    }
+
+    /**
+     * Дожидается, пока памяти хватит еще на одну сессию, и занимает место под нее.
+     */
+    private synchronized void admit() {
+        long start = System.nanoTime();
+        long deadline = start + TimeUnit.MILLISECONDS.toNanos(ADMIT_TIMEOUT_MILLIS);
+        boolean logged = false;
+        while (admitted > 0 && !hasRoomForSession()) {
+            if (System.nanoTime() - deadline >= 0) {
+                System.out.println(String.format(
+                        "[memory] admitting new session after %d ms without enough memory, "
+                                + "active sessions %d", ADMIT_TIMEOUT_MILLIS, admitted));
+                break;
+            }
+            if (!logged) {
+                System.out.println(String.format(
+                        "[memory] holding new session: available %d MB, session estimate %d MB, "
+                                + "headroom %d MB, open sessions %d (%d not measured yet)",
+                        BrowserProcesses.availableMemoryKb() / 1024, sessionEstimateKb() / 1024,
+                        HEADROOM_KB / 1024, admitted, inFlight));
+                logged = true;
+            }
+            try {
+                wait(POLL_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        if (logged) {
+            waits++;
+            waitedNanos += System.nanoTime() - start;
+        }
+        admitted++;
+        inFlight++;
+    }
+
+    /**
+     * Начинает учет памяти сессии, выданной тесту.
+     * @param driver сессия в том виде, в котором ее выдал провайдер
+     * @param testClass имя тестового класса
+     */
+    public void track(WebDriver driver, String testClass) {
+        if (ENABLED) {
+            active.put(driver, testClass);
+        }
+    }
+
+    /**
+     * Завершает учет сессии тестом. Место сессии остается занятым, пока она не закрыта.
+     * @param driver сессия, переданная в {@link #track(WebDriver, String)}
+     */
+    public void untrack(WebDriver driver) {
+        if (ENABLED && driver != null) {
+            sampleSession(driver, active.remove(driver));
+        }
+    }
+
+    /**
+     * Освобождает место закрываемой сессии для следующей.
+     * Сессии, запущенные не через {@link #launch(String, Supplier)}, не учитываются.
+     * @param driver закрываемая сессия
+     */
+    public void release(WebDriver driver) {
+        if (ENABLED && launched.remove(driver)) {
+            if (unmeasured.remove(driver)) {
+                measured();
+            }
+            freeSlot();
+        }
+    }
+
+    private synchronized void freeSlot() {
+        admitted = Math.max(0, admitted - 1);
+        notifyAll();
+    }
+
+    /**
+     * Снимает резерв сессии, память которой теперь учтена в MemAvailable (или которой больше нет).
+     */
+    private synchronized void measured() {
+        inFlight = Math.max(0, inFlight - 1);
+        notifyAll();
+    }
+
+    private synchronized boolean hasRoomForSession() {
+        return BrowserProcesses.availableMemoryKb() - sessionEstimateKb() * (inFlight + 1) >= HEADROOM_KB;
+    }
+
+    private synchronized long sessionEstimateKb() {
+        return largestSessionKb > 0 ? largestSessionKb : INITIAL_SESSION_KB;
+    }
+
+    /**
+     * Снимает память всех активных сессий и свободную память системы.
+     */
+    private void sample() {
+        long available = BrowserProcesses.availableMemoryKb();
+        synchronized (this) {
+            minAvailableKb = Math.min(minAvailableKb, available);
+        }
+        launched.forEach(driver -> sampleSession(driver, active.get(driver)));
+    }
+
+    private void sampleSession(WebDriver driver, String testClass) {
+        BrowserProcesses.driverProcess(driver).ifPresent(process -> {
+            long memoryKb = BrowserProcesses.treeMemoryKb(process);
+            sessionPeaksKb.merge(BrowserProcesses.label(driver), memoryKb, Math::max);
+            if (testClass != null) {
+                classPeaksKb.merge(testClass, memoryKb, Math::max);
+            }
+            synchronized (this) {
+                largestSessionKb = Math.max(largestSessionKb, memoryKb);
+            }
+            if (unmeasured.remove(driver)) {
+                measured();
+            }
+        });
+    }
+
+    private synchronized void report() {
+        sampler.shutdownNow();
+        if (sessionPeaksKb.isEmpty()) {
+            return;
+        }
+        Map<String, Long> sessions = toMegabytes(sessionPeaksKb);
+        Map<String, Long> classes = toMegabytes(classPeaksKb);
+        System.out.println(String.format(
+                "[memory] largest session %d MB, min available %d MB, admission waits %d (%d ms)",
+                largestSessionKb / 1024, minAvailableKb / 1024, waits, waitedNanos / 1_000_000));
+        classes.forEach((testClass, peakMb) ->
+                System.out.println(String.format("[memory]   %s: peak %d MB per session", testClass, peakMb)));
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("headroomMb", HEADROOM_KB / 1024);
+        report.put("minAvailableMb", minAvailableKb / 1024);
+        report.put("largestSessionMb", largestSessionKb / 1024);
+        report.put("admissionWaits", waits);
+        report.put("admissionWaitMs", waitedNanos / 1_000_000);
+        report.put("sessionPeaksMb", sessions);
+        report.put("classPeaksMb", classes);
+        try {
+            Files.createDirectories(REPORT_FILE.getParent());
+            Files.write(REPORT_FILE, new Json().toJson(report).getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            System.out.println("Failed to write memory report: " + e.getMessage());
+        }
+    }
+
+    private static Map<String, Long> toMegabytes(Map<String, Long> kilobytes) {
+        Map<String, Long> megabytes = new TreeMap<>();
+        kilobytes.forEach((key, value) -> megabytes.put(key, value / 1024));
+        return megabytes;
+    }
+}
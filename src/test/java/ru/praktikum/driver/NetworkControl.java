@@ -0,0 +1,238 @@
+package ru.praktikum.driver;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.json.Json;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Управление сетью браузера через Chrome DevTools Protocol.
+ * Блокирует запросы, не нужные для проверок (аналитика, шрифты, изображения),
+ * и при необходимости эмулирует медленную сеть. Для каждой страницы считает
+ * загруженные и заблокированные запросы и пишет отчет в target/network-report.json.
+ *
+ * Настройки:
+ * "network.block" - список через запятую из шаблонов URL (например, *mc.yandex.ru*)
+ * и групп: analytics, fonts, images, media;
+ * "network.throttle" - профиль сети: slow3g, fast3g, offline;
+ * "network.report=true" - только отчет без правил. Такой прогон запоминает размеры ресурсов
+ * в target/network-sizes.properties, и последующие прогоны с блокировкой оценивают по ним
+ * сэкономленные байты.
+ *
+ * В Firefox протокол DevTools недоступен, поэтому правила не применяются
+ * (изображения в Firefox можно отключить профилем LEAN).
+ */
+public final class NetworkControl {
+    private static final Path REPORT_FILE = Paths.get("target", "network-report.json");
+    // Размеры ресурсов, загруженных без блокировки; по ним оценивается экономия
+    private static final Path SIZES_FILE = Paths.get("target", "network-sizes.properties");
+
+    private static final Map<String, List<String>> GROUPS = Map.of(
+            "analytics", Arrays.asList("*mc.yandex.ru*", "*google-analytics.com*", "*googletagmanager.com*",
+                    "*yandex.ru/metrika*", "*an.yandex.ru*"),
+            "fonts", Arrays.asList("*.woff", "*.woff2", "*.ttf", "*.otf", "*fonts.googleapis.com*"),
+            "images", Arrays.asList("*.png", "*.jpg", "*.jpeg", "*.gif", "*.webp", "*.svg", "*.ico"),
+            "media", Arrays.asList("*.mp4", "*.webm", "*.mp3"));
+
+    // Профили сети: задержка (мс), скорость загрузки и отдачи (байт/с)
+    private static final Map<String, long[]> THROTTLE_PROFILES = Map.of(
+            "slow3g", new long[] {400, 50_000, 50_000},
+            "fast3g", new long[] {150, 200_000, 90_000},
+            "offline", new long[] {0, 0, 0});
+
+    private static final List<String> BLOCKED_PATTERNS = parseBlockRules(System.getProperty("network.block", ""));
+    private static final String THROTTLE = System.getProperty("network.throttle", "").trim().toLowerCase();
+    private static final boolean REPORT_ONLY = Boolean.getBoolean("network.report");
+    private static final Map<String, PageStats> PAGES = new ConcurrentHashMap<>();
+    private static final Properties KNOWN_SIZES = loadSizes();
+
+    static {
+        if (isConfigured()) {
+            Runtime.getRuntime().addShutdownHook(new Thread(NetworkControl::writeReport, "network-report"));
+        }
+    }
+
+    private NetworkControl() {
+    }
+
+    /**
+     * Применяет правила блокировки и профиль сети к новой сессии.
+     * Ничего не делает, если не заданы ни правила, ни отчет.
+     * @param driver только что запущенный драйвер
+     */
+    public static void apply(WebDriver driver) {
+        if (!isConfigured()) {
+            return;
+        }
+        if (!(driver instanceof HasDevTools)) {
+            System.out.println("Network rules are not supported by " + driver.getClass().getSimpleName()
+                    + ", running without request blocking and throttling");
+            return;
+        }
+        try {
+            DevTools devTools = ((HasDevTools) driver).getDevTools();
+            devTools.createSessionIfThereIsNotOne();
+            subscribe(devTools);
+            devTools.send(new Command<>("Network.enable", Map.of()));
+            if (!BLOCKED_PATTERNS.isEmpty()) {
+                devTools.send(new Command<>("Network.setBlockedURLs", Map.of("urls", BLOCKED_PATTERNS)));
+            }
+            long[] throttle = THROTTLE_PROFILES.get(THROTTLE);
+            if (throttle != null) {
+                Map<String, Object> conditions = new LinkedHashMap<>();
+                conditions.put("offline", "offline".equals(THROTTLE));
+                conditions.put("latency", throttle[0]);
+                conditions.put("downloadThroughput", throttle[1]);
+                conditions.put("uploadThroughput", throttle[2]);
+                devTools.send(new Command<>("Network.emulateNetworkConditions", conditions));
+            }
+        } catch (WebDriverException e) {
+            System.out.println("Failed to apply network rules via DevTools: " + e.getMessage());
+        }
+    }
+
+    private static boolean isConfigured() {
+        return REPORT_ONLY || !BLOCKED_PATTERNS.isEmpty() || !THROTTLE.isEmpty();
+    }
+
+    /**
+     * Подписывается на события сети, чтобы считать загруженные и заблокированные запросы.
+     */
+    private static void subscribe(DevTools devTools) {
+        Map<String, String[]> requests = new ConcurrentHashMap<>();
+        devTools.addListener(event("Network.requestWillBeSent"), params -> {
+            Map<?, ?> request = (Map<?, ?>) params.get("request");
+            requests.put(String.valueOf(params.get("requestId")),
+                    new String[] {pageOf(params.get("documentURL")), String.valueOf(request.get("url"))});
+        });
+        devTools.addListener(event("Network.loadingFinished"), params -> {
+            String[] request = requests.remove(String.valueOf(params.get("requestId")));
+            if (request != null) {
+                long bytes = ((Number) params.get("encodedDataLength")).longValue();
+                stats(request[0]).loaded(bytes);
+                if (BLOCKED_PATTERNS.isEmpty()) {
+                    KNOWN_SIZES.setProperty(request[1], String.valueOf(bytes));
+                }
+            }
+        });
+        devTools.addListener(event("Network.loadingFailed"), params -> {
+            String[] request = requests.remove(String.valueOf(params.get("requestId")));
+            if (request != null && params.get("blockedReason") != null) {
+                stats(request[0]).blocked(Long.parseLong(KNOWN_SIZES.getProperty(request[1], "-1")));
+            }
+        });
+    }
+
+    private static Event<Map<String, Object>> event(String method) {
+        return new Event<>(method, input -> input.read(Json.MAP_TYPE));
+    }
+
+    private static PageStats stats(String page) {
+        return PAGES.computeIfAbsent(page, key -> new PageStats());
+    }
+
+    private static String pageOf(Object documentUrl) {
+        try {
+            String path = URI.create(String.valueOf(documentUrl)).getPath();
+            return path == null || path.isEmpty() ? "/" : path;
+        } catch (IllegalArgumentException e) {
+            return String.valueOf(documentUrl);
+        }
+    }
+
+    private static List<String> parseBlockRules(String rules) {
+        List<String> patterns = new ArrayList<>();
+        for (String rule : rules.split(",")) {
+            String trimmed = rule.trim();
+            if (!trimmed.isEmpty()) {
+                patterns.addAll(GROUPS.getOrDefault(trimmed.toLowerCase(), List.of(trimmed)));
+            }
+        }
+        return patterns;
+    }
+
+    private static Properties loadSizes() {
+        Properties sizes = new Properties();
+        if (Files.exists(SIZES_FILE)) {
+            try (Reader reader = Files.newBufferedReader(SIZES_FILE, StandardCharsets.UTF_8)) {
+                sizes.load(reader);
+            } catch (IOException e) {
+                System.out.println("Failed to read known resource sizes: " + e.getMessage());
+            }
+        }
+        return sizes;
+    }
+
+    private static void writeReport() {
+        Map<String, Object> report = new TreeMap<>();
+        PAGES.forEach((page, stats) -> report.put(page, stats.toMap()));
+        try {
+            Files.createDirectories(REPORT_FILE.getParent());
+            Files.write(REPORT_FILE, new Json().toJson(report).getBytes(StandardCharsets.UTF_8));
+            if (BLOCKED_PATTERNS.isEmpty()) {
+                try (Writer writer = Files.newBufferedWriter(SIZES_FILE, StandardCharsets.UTF_8)) {
+                    KNOWN_SIZES.store(writer, "Resource sizes observed without request blocking");
+                }
+            }
+            System.out.println("Network report written to " + REPORT_FILE);
+        } catch (IOException e) {
+            System.out.println("Failed to write network report: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Статистика запросов одной страницы.
+     * Экономия в байтах оценивается по размерам ресурсов из прогона без блокировки;
+     * заблокированные ресурсы с неизвестным размером считаются отдельно.
+     */
+    private static class PageStats {
+        private long requests;
+        private long bytesLoaded;
+        private long blocked;
+        private long bytesSaved;
+        private long blockedUnknownSize;
+
+        synchronized void loaded(long bytes) {
+            requests++;
+            bytesLoaded += bytes;
+        }
+
+        synchronized void blocked(long knownSize) {
+            blocked++;
+            if (knownSize >= 0) {
+                bytesSaved += knownSize;
+            } else {
+                blockedUnknownSize++;
+            }
+        }
+
+        synchronized Map<String, Object> toMap() {
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("requests", requests);
+            map.put("bytesLoaded", bytesLoaded);
+            map.put("requestsBlocked", blocked);
+            map.put("bytesSavedEstimate", bytesSaved);
+            map.put("blockedWithUnknownSize", blockedUnknownSize);
+            return map;
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package ru.praktikum.driver;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Новая сессия браузера на каждый тест без простоя на запуске и закрытии.
+ * Выдавая сессию, провайдер сразу начинает в фоне запускать сессию для следующего теста,
+ * а отработавшая сессия закрывается в фоне через {@link DriverReaper}.
+ * Подготовка (например, запись куки согласия и открытие стартовой страницы) тоже
+ * выполняется в фоне, пока идет текущий тест.
+ */
+public class PipelinedDriverProvider implements DriverProvider {
+    private final String name;
+    private final Supplier<WebDriver> factory;
+    private final Consumer<WebDriver> warmUp;
+    private final ExecutorService launcher;
+    private final BlockingQueue<Future<WebDriver>> prelaunched = new LinkedBlockingQueue<>();
+    private final DriverReaper reaper;
+    private final Duration shutdownTimeout;
+
+    // Статистика работы провайдера
+    private final AtomicInteger launches = new AtomicInteger();
+    private final AtomicInteger acquires = new AtomicInteger();
+    private final AtomicInteger readyOnAcquire = new AtomicInteger();
+    private final AtomicLong waitNanos = new AtomicLong();
+
+    /**
+     * Конструктор провайдера.
+     * @param name имя провайдера в статистике
+     * @param threads количество сессий, запускаемых одновременно (обычно равно числу потоков тестов)
+     * @param factory фабрика новых сессий
+     * @param warmUp подготовка новой сессии в фоне
+     * @param reaper фоновое закрытие сессий
+     * @param shutdownTimeout время на закрытие сессий при завершении работы
+     * @throws IllegalArgumentException если количество потоков меньше 1
+     */
+    public PipelinedDriverProvider(String name, int threads, Supplier<WebDriver> factory,
+                                   Consumer<WebDriver> warmUp, DriverReaper reaper, Duration shutdownTimeout) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("Launcher threads must be positive");
+        }
+        this.name = name;
+        this.factory = factory;
+        this.warmUp = warmUp;
+        this.reaper = reaper;
+        this.shutdownTimeout = shutdownTimeout;
+        AtomicInteger counter = new AtomicInteger();
+        this.launcher = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, name + "-launcher-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        Runtime.getRuntime().addShutdownHook(new Thread(this::shutdown, name + "-lifecycle-shutdown"));
+    }
+
+    /**
+     * Выдает заранее запущенную сессию (при необходимости дожидаясь ее запуска)
+     * и начинает запуск сессии для следующего теста.
+     * @return готовый к работе WebDriver
+     * @throws WebDriverException если браузер не удалось запустить
+     */
+    @Override
+    public WebDriver acquire() {
+        Future<WebDriver> next = prelaunched.poll();
+        if (next == null) {
+            next = launchAsync();
+        }
+        prelaunched.add(launchAsync());
+
+        acquires.incrementAndGet();
+        if (next.isDone()) {
+            readyOnAcquire.incrementAndGet();
+        }
+        long start = System.nanoTime();
+        try {
+            return next.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new WebDriverException("Failed to launch browser", cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new WebDriverException("Interrupted while waiting for browser launch", e);
+        } finally {
+            waitNanos.addAndGet(System.nanoTime() - start);
+            SetupTimer.record("prelaunch-wait", start);
+        }
+    }
+
+    /**
+     * Передает сессию на закрытие в фоне.
+     * @param driver сессия, полученная через {@link #acquire()}
+     */
+    @Override
+    public void release(WebDriver driver) {
+        if (driver != null) {
+            reaper.submit(driver);
+        }
+    }
+
+    /**
+     * Закрывает заранее запущенные сессии, дожидается фонового закрытия
+     * и выводит статистику.
+     */
+    public void shutdown() {
+        launcher.shutdown();
+        List<Future<WebDriver>> unused = new ArrayList<>();
+        prelaunched.drainTo(unused);
+        for (Future<WebDriver> future : unused) {
+            try {
+                reaper.submit(future.get(shutdownTimeout.toMillis(), TimeUnit.MILLISECONDS));
+            } catch (ExecutionException | CancellationException e) {
+                // Сессия не запустилась, закрывать нечего
+            } catch (Exception e) {
+                future.cancel(true);
+            }
+        }
+        reaper.shutdown(shutdownTimeout);
+        System.out.println(getStats());
+    }
+
+    /**
+     * Формирует отчет о запусках и ожидании сессий.
+     * @return строка со статистикой
+     */
+    public String getStats() {
+        int acquired = acquires.get();
+        return String.format(
+                "Pipelined lifecycle [%s]: launches=%d, acquires=%d, ready on acquire=%d, avg wait=%d ms",
+                name, launches.get(), acquired, readyOnAcquire.get(),
+                acquired == 0 ? 0 : waitNanos.get() / acquired / 1_000_000);
+    }
+
+    private Future<WebDriver> launchAsync() {
+        launches.incrementAndGet();
+        return launcher.submit(() -> {
+            WebDriver driver = factory.get();
+            try {
+                warmUp.accept(driver);
+            } catch (WebDriverException e) {
+                System.out.println("Failed to prepare prelaunched browser: " + e.getMessage());
+            } catch (RuntimeException e) {
+                // Запущенный браузер никому не достанется: закрываем его, освобождая место в памяти
+                reaper.submit(driver);
+                throw e;
+            }
+            return driver;
+        });
+    }
+}
@@ -0,0 +1,93 @@
+package ru.praktikum.driver;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Сравнение профилей запуска браузера.
+ * По завершении прогона дописывает в target/profile-stats.csv время запуска браузера
+ * и длительность прогона для текущего профиля и выводит таблицу всех записанных прогонов,
+ * отсортированную по времени прогона. Для сравнения достаточно запустить тесты
+ * с каждым профилем по очереди.
+ */
+public final class ProfileStats {
+    private static final Path STATS_FILE = Paths.get("target", "profile-stats.csv");
+    private static final String HEADER = "browser,profile,tests,launches,avgLaunchMs,suiteMs";
+
+    private static final long SUITE_START = System.nanoTime();
+    private static final AtomicInteger TESTS = new AtomicInteger();
+    private static final AtomicInteger LAUNCHES = new AtomicInteger();
+    private static final AtomicLong LAUNCH_NANOS = new AtomicLong();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(ProfileStats::report, "profile-stats"));
+    }
+
+    private ProfileStats() {
+    }
+
+    /**
+     * Учитывает запуск браузера.
+     * @param nanos длительность запуска в наносекундах
+     */
+    public static void recordLaunch(long nanos) {
+        LAUNCHES.incrementAndGet();
+        LAUNCH_NANOS.addAndGet(nanos);
+    }
+
+    /**
+     * Учитывает начало очередного теста.
+     */
+    public static void recordTest() {
+        TESTS.incrementAndGet();
+    }
+
+    private static void report() {
+        if (TESTS.get() == 0) {
+            return;
+        }
+        int launches = LAUNCHES.get();
+        String row = String.join(",",
+                System.getProperty("browsers", System.getProperty("browser", "chrome")).toLowerCase().replace(',', '+'),
+                BrowserProfile.current().name().toLowerCase(),
+                String.valueOf(TESTS.get()),
+                String.valueOf(launches),
+                String.valueOf(launches == 0 ? 0 : LAUNCH_NANOS.get() / launches / 1_000_000),
+                String.valueOf((System.nanoTime() - SUITE_START) / 1_000_000));
+        try {
+            Files.createDirectories(STATS_FILE.getParent());
+            if (!Files.exists(STATS_FILE)) {
+                Files.write(STATS_FILE, List.of(HEADER), StandardCharsets.UTF_8);
+            }
+            Files.write(STATS_FILE, List.of(row), StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+            printComparison(Files.readAllLines(STATS_FILE, StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            System.out.println("Failed to write profile stats: " + e.getMessage());
+        }
+    }
+
+    private static void printComparison(List<String> lines) {
+        List<String[]> rows = lines.stream()
+                .skip(1)
+                .map(line -> line.split(","))
+                .filter(columns -> columns.length == 6)
+                .sorted(Comparator.comparingLong(columns -> Long.parseLong(columns[5])))
+                .collect(Collectors.toList());
+
+        System.out.println("Browser profile comparison (fastest first):");
+        System.out.println(String.format("%-8s %-9s %6s %9s %13s %10s",
+                "browser", "profile", "tests", "launches", "avg launch ms", "suite ms"));
+        for (String[] columns : rows) {
+            System.out.println(String.format("%-8s %-9s %6s %9s %13s %10s", (Object[]) columns));
+        }
+    }
+}
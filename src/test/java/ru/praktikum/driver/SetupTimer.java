@@ -0,0 +1,47 @@
+package ru.praktikum.driver;
+
+import ru.praktikum.metrics.CommandMetrics;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Замер длительности фаз подготовки теста (разрешение драйвера,
+ * запуск браузера, открытие страницы). Замеры привязаны к потоку,
+ * поэтому корректно работают при параллельном запуске.
+ */
+public final class SetupTimer {
+    private static final ThreadLocal<Map<String, Long>> PHASES = ThreadLocal.withInitial(LinkedHashMap::new);
+
+    private SetupTimer() {
+    }
+
+    /**
+     * Начинает новый замер для текущего потока.
+     */
+    public static void start() {
+        PHASES.get().clear();
+    }
+
+    /**
+     * Добавляет длительность фазы к текущему замеру.
+     * @param phase название фазы
+     * @param startNanos момент начала фазы, полученный из System.nanoTime()
+     */
+    public static void record(String phase, long startNanos) {
+        PHASES.get().merge(phase, System.nanoTime() - startNanos, Long::sum);
+    }
+
+    /**
+     * Выводит длительность фаз текущего замера в лог и передает их в метрики теста.
+     * @param testName имя теста
+     */
+    public static void report(String testName) {
+        StringBuilder line = new StringBuilder("[setUp] ").append(testName).append(':');
+        PHASES.get().forEach((phase, nanos) -> {
+            line.append(' ').append(phase).append('=').append(nanos / 1_000_000).append(" ms");
+            CommandMetrics.record("BaseTest.setUp", "setUp." + phase, nanos);
+        });
+        System.out.println(line);
+    }
+}
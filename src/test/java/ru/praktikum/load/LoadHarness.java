@@ -0,0 +1,245 @@
+package ru.praktikum.load;
+
+import ru.praktikum.core.OrderData;
+import ru.praktikum.core.OrderService;
+import ru.praktikum.metrics.LatencyRecorder;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * Нагрузка на сервис заказов из нескольких параллельных исполнителей.
+ * Каждый исполнитель получает собственный экземпляр {@link OrderService} из фабрики
+ * (реализации хранят состояние последнего заказа) и создает заказы в цикле.
+ * Исполнители запускаются равномерно в течение разгона, после чего нагрузка держится
+ * заданное время. При целевой интенсивности у каждого исполнителя свое расписание
+ * (интенсивность / количество исполнителей), а задержка считается от запланированного
+ * момента, поэтому отставание сервиса не скрывается паузой генератора (coordinated omission).
+ * Запуски, опоздавшие больше чем на интервал расписания, считаются отдельно, а запланированные
+ * на время после окончания нагрузки не выполняются и считаются пропущенными.
+ * Без ограничения интенсивности исполнитель после каждого заказа делает паузу think time.
+ * Раз в период выводятся пропускная способность, доля ошибок и перцентили задержки,
+ * итоговые значения считаются только по установившемуся режиму: по заказам, завершившимся
+ * после разгона, за фактически прошедшее время. Поэтому при насыщении сервиса пропускная
+ * способность оказывается ниже целевой.
+ */
+public class LoadHarness {
+    private static final String OPERATION = "createOrder";
+
+    private final Supplier<OrderService> services;
+    private final Supplier<OrderData> orders;
+    private final LoadProfile profile;
+
+    private final AtomicInteger activeWorkers = new AtomicInteger();
+    private final AtomicReference<LatencyRecorder> intervalLatency = new AtomicReference<>(new LatencyRecorder());
+    private final AtomicLong intervalOperations = new AtomicLong();
+    private final AtomicLong intervalErrors = new AtomicLong();
+    private final LatencyRecorder steadyLatency = new LatencyRecorder();
+    private final AtomicLong steadyOperations = new AtomicLong();
+    private final AtomicLong steadyErrors = new AtomicLong();
+    private final AtomicLong lateStarts = new AtomicLong();
+    private final AtomicLong missedSlots = new AtomicLong();
+    private final Map<String, AtomicLong> errorsByType = new ConcurrentHashMap<>();
+    private final List<Map<String, Object>> intervals = Collections.synchronizedList(new ArrayList<>());
+
+    /**
+     * Конструктор.
+     * @param services фабрика сервисов, вызывается один раз в потоке каждого исполнителя
+     * @param orders источник данных заказов, вызывается из всех исполнителей и должен быть потокобезопасным
+     * @param profile параметры нагрузки
+     */
+    public LoadHarness(Supplier<OrderService> services, Supplier<OrderData> orders, LoadProfile profile) {
+        this.services = services;
+        this.orders = orders;
+        this.profile = profile;
+    }
+
+    /**
+     * Выполняет нагрузку и дожидается завершения всех исполнителей.
+     * @return итоги установившегося режима
+     * @throws IllegalStateException если поток прерван во время нагрузки
+     */
+    public LoadResult run() {
+        System.out.println("[load] starting: " + profile);
+        long start = System.nanoTime();
+        long steadyStart = start + profile.getRampUp().toNanos();
+        long end = steadyStart + profile.getSteadyState().toNanos();
+
+        AtomicInteger counter = new AtomicInteger();
+        ExecutorService workers = Executors.newFixedThreadPool(profile.getWorkers(), runnable -> {
+            Thread thread = new Thread(runnable, "load-worker-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        ScheduledExecutorService reporter = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "load-reporter");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long reportNanos = profile.getReportInterval().toNanos();
+        reporter.scheduleAtFixedRate(() -> reportInterval(start, reportNanos),
+                reportNanos, reportNanos, TimeUnit.NANOSECONDS);
+
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < profile.getWorkers(); i++) {
+            long startAt = start + profile.getRampUp().toNanos() * i / profile.getWorkers();
+            futures.add(workers.submit(() -> work(startAt, steadyStart, end)));
+        }
+        try {
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Load run interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Load worker failed: " + e.getCause(), e.getCause());
+        } finally {
+            reporter.shutdownNow();
+            workers.shutdownNow();
+        }
+        // Установившийся режим длится до завершения последнего заказа, начатого до его конца
+        Duration steadyElapsed = Duration.ofNanos(Math.max(0, System.nanoTime() - steadyStart));
+
+        LoadResult result = new LoadResult(profile, steadyOperations.get(), steadyErrors.get(), steadyElapsed,
+                lateStarts.get(), missedSlots.get(),
+                steadyLatency.summary().getOrDefault(OPERATION, Collections.emptyMap()),
+                errorCounts(), new ArrayList<>(intervals));
+        System.out.println("[load] " + result);
+        return result;
+    }
+
+    /**
+     * Цикл одного исполнителя: ожидание своей очереди разгона, затем заказы до конца нагрузки.
+     */
+    private void work(long startAt, long steadyStart, long end) {
+        sleepUntil(startAt);
+        OrderService service = services.get();
+        activeWorkers.incrementAndGet();
+        long pacingNanos = profile.getTargetRate() > 0
+                ? (long) (1_000_000_000L * profile.getWorkers() / profile.getTargetRate())
+                : 0;
+        long scheduled = startAt;
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                long begin;
+                if (pacingNanos > 0) {
+                    if (scheduled >= end) {
+                        break;
+                    }
+                    long now = System.nanoTime();
+                    if (now >= end) {
+                        // Оставшиеся запуски расписания сервис не успел принять
+                        missedSlots.addAndGet((end - scheduled + pacingNanos - 1) / pacingNanos);
+                        break;
+                    }
+                    if (now - scheduled > pacingNanos) {
+                        lateStarts.incrementAndGet();
+                    }
+                    sleepUntil(scheduled);
+                    begin = scheduled;
+                    scheduled += pacingNanos;
+                } else {
+                    begin = System.nanoTime();
+                    if (begin >= end) {
+                        break;
+                    }
+                }
+                String error = execute(service);
+                long finished = System.nanoTime();
+                record(finished >= steadyStart, finished - begin, error);
+                if (pacingNanos == 0 && !profile.getThinkTime().isZero()) {
+                    sleepUntil(Math.min(end, System.nanoTime() + profile.getThinkTime().toNanos()));
+                }
+            }
+        } finally {
+            activeWorkers.decrementAndGet();
+        }
+    }
+
+    /**
+     * Создает один заказ.
+     * @return тип ошибки или null, если заказ создан
+     */
+    private String execute(OrderService service) {
+        try {
+            return service.createOrder(orders.get()) ? null : "rejected";
+        } catch (RuntimeException e) {
+            return e.getClass().getSimpleName();
+        }
+    }
+
+    private void record(boolean steady, long latencyNanos, String error) {
+        intervalOperations.incrementAndGet();
+        if (error != null) {
+            intervalErrors.incrementAndGet();
+        } else {
+            intervalLatency.get().record(OPERATION, latencyNanos);
+        }
+        if (!steady) {
+            return;
+        }
+        steadyOperations.incrementAndGet();
+        if (error != null) {
+            steadyErrors.incrementAndGet();
+            errorsByType.computeIfAbsent(error, key -> new AtomicLong()).incrementAndGet();
+        } else {
+            steadyLatency.record(OPERATION, latencyNanos);
+        }
+    }
+
+    /**
+     * Выводит статистику за прошедший период и начинает новый.
+     */
+    private void reportInterval(long start, long periodNanos) {
+        long operations = intervalOperations.getAndSet(0);
+        long errors = intervalErrors.getAndSet(0);
+        Map<String, Object> latency = intervalLatency.getAndSet(new LatencyRecorder()).summary()
+                .getOrDefault(OPERATION, Collections.emptyMap());
+
+        Map<String, Object> interval = new LinkedHashMap<>();
+        interval.put("elapsedS", Math.round((System.nanoTime() - start) / 100_000_000.0) / 10.0);
+        interval.put("workers", activeWorkers.get());
+        interval.put("throughputPerS", Math.round(operations * 10_000_000_000.0 / periodNanos) / 10.0);
+        interval.put("errorRatePct", operations == 0 ? 0.0 : Math.round(errors * 1000.0 / operations) / 10.0);
+        interval.put("p50Ms", latency.getOrDefault("p50Ms", 0.0));
+        interval.put("p95Ms", latency.getOrDefault("p95Ms", 0.0));
+        interval.put("p99Ms", latency.getOrDefault("p99Ms", 0.0));
+        intervals.add(interval);
+        System.out.println(String.format(
+                "[load] %5ss workers=%d/%d throughput=%s/s errors=%s%% p50=%s ms p95=%s ms p99=%s ms",
+                interval.get("elapsedS"), activeWorkers.get(), profile.getWorkers(), interval.get("throughputPerS"),
+                interval.get("errorRatePct"), interval.get("p50Ms"), interval.get("p95Ms"), interval.get("p99Ms")));
+    }
+
+    private Map<String, Long> errorCounts() {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        errorsByType.forEach((type, count) -> counts.put(type, count.get()));
+        return counts;
+    }
+
+    private static void sleepUntil(long deadlineNanos) {
+        long remaining;
+        while ((remaining = deadlineNanos - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+            if (Thread.currentThread().isInterrupted()) {
+                return;
+            }
+        }
+    }
+}
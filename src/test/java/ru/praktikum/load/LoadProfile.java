@@ -0,0 +1,95 @@
+package ru.praktikum.load;
+
+import java.time.Duration;
+
+/**
+ * Параметры нагрузки: количество параллельных исполнителей, разгон,
+ * длительность установившегося режима, целевая интенсивность и пауза между заказами.
+ */
+public class LoadProfile {
+    private final int workers;
+    private final Duration rampUp;
+    private final Duration steadyState;
+    private final double targetRate;
+    private final Duration thinkTime;
+    private final Duration reportInterval;
+
+    /**
+     * Конструктор профиля.
+     * @param workers количество параллельных исполнителей
+     * @param rampUp время, за которое запускаются все исполнители (равномерно)
+     * @param steadyState длительность нагрузки после разгона
+     * @param targetRate суммарная интенсивность в заказах в секунду, 0 - без ограничения
+     * @param thinkTime пауза исполнителя после каждого заказа
+     * @param reportInterval период вывода промежуточной статистики
+     * @throws IllegalArgumentException если параметры вне допустимых значений
+     */
+    public LoadProfile(int workers, Duration rampUp, Duration steadyState, double targetRate,
+                       Duration thinkTime, Duration reportInterval) {
+        if (workers < 1) {
+            throw new IllegalArgumentException("Workers must be positive");
+        }
+        if (rampUp.isNegative() || thinkTime.isNegative() || steadyState.isNegative() || steadyState.isZero()) {
+            throw new IllegalArgumentException("Steady state must be positive, ramp-up and think time non-negative");
+        }
+        if (targetRate < 0) {
+            throw new IllegalArgumentException("Target rate cannot be negative");
+        }
+        if (reportInterval.isNegative() || reportInterval.isZero()) {
+            throw new IllegalArgumentException("Report interval must be positive");
+        }
+        this.workers = workers;
+        this.rampUp = rampUp;
+        this.steadyState = steadyState;
+        this.targetRate = targetRate;
+        this.thinkTime = thinkTime;
+        this.reportInterval = reportInterval;
+    }
+
+    /**
+     * Создает профиль из системных свойств: "load.workers" (по умолчанию 4), "load.rampup.s" (10),
+     * "load.duration.s" (60), "load.rate" (заказов в секунду, 0 - без ограничения),
+     * "load.think.ms" (0) и "load.report.s" (5).
+     * @return профиль нагрузки
+     */
+    public static LoadProfile fromSystemProperties() {
+        return new LoadProfile(
+                Integer.getInteger("load.workers", 4),
+                Duration.ofSeconds(Long.getLong("load.rampup.s", 10)),
+                Duration.ofSeconds(Long.getLong("load.duration.s", 60)),
+                Double.parseDouble(System.getProperty("load.rate", "0")),
+                Duration.ofMillis(Long.getLong("load.think.ms", 0)),
+                Duration.ofSeconds(Long.getLong("load.report.s", 5)));
+    }
+
+    public int getWorkers() {
+        return workers;
+    }
+
+    public Duration getRampUp() {
+        return rampUp;
+    }
+
+    public Duration getSteadyState() {
+        return steadyState;
+    }
+
+    public double getTargetRate() {
+        return targetRate;
+    }
+
+    public Duration getThinkTime() {
+        return thinkTime;
+    }
+
+    public Duration getReportInterval() {
+        return reportInterval;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("workers=%d, ramp-up=%d ms, steady state=%d ms, rate=%s/s, think=%d ms",
+                workers, rampUp.toMillis(), steadyState.toMillis(),
+                targetRate > 0 ? String.valueOf(targetRate) : "unlimited", thinkTime.toMillis());
+    }
+}
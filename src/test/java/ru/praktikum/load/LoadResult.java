@@ -0,0 +1,143 @@
+package ru.praktikum.load;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Итоги нагрузки за установившийся режим (без разгона)
+ * и промежуточная статистика по периодам за весь прогон.
+ */
+public class LoadResult {
+    private final LoadProfile profile;
+    private final long operations;
+    private final long errors;
+    private final Duration steadyElapsed;
+    private final long lateStarts;
+    private final long missedSlots;
+    private final Map<String, Object> latency;
+    private final Map<String, Long> errorsByType;
+    private final List<Map<String, Object>> intervals;
+
+    LoadResult(LoadProfile profile, long operations, long errors, Duration steadyElapsed,
+               long lateStarts, long missedSlots, Map<String, Object> latency,
+               Map<String, Long> errorsByType, List<Map<String, Object>> intervals) {
+        this.profile = profile;
+        this.operations = operations;
+        this.errors = errors;
+        this.steadyElapsed = steadyElapsed;
+        this.lateStarts = lateStarts;
+        this.missedSlots = missedSlots;
+        this.latency = latency;
+        this.errorsByType = errorsByType;
+        this.intervals = intervals;
+    }
+
+    public long getOperations() {
+        return operations;
+    }
+
+    public long getErrors() {
+        return errors;
+    }
+
+    /**
+     * Фактическая длительность установившегося режима: от конца разгона
+     * до завершения последнего заказа.
+     * @return длительность
+     */
+    public Duration getSteadyElapsed() {
+        return steadyElapsed;
+    }
+
+    /**
+     * Пропускная способность установившегося режима: заказы, завершившиеся после разгона,
+     * за фактическую длительность режима.
+     * @return заказов в секунду, включая ошибочные
+     */
+    public double getThroughput() {
+        return steadyElapsed.isZero() ? 0 : operations * 1_000_000_000.0 / steadyElapsed.toNanos();
+    }
+
+    /**
+     * Количество запусков, начатых позже запланированного больше чем на интервал расписания.
+     * @return 0 без целевой интенсивности
+     */
+    public long getLateStarts() {
+        return lateStarts;
+    }
+
+    /**
+     * Количество запусков расписания, не выполненных до окончания нагрузки.
+     * @return 0 без целевой интенсивности
+     */
+    public long getMissedSlots() {
+        return missedSlots;
+    }
+
+    /**
+     * Доля ошибок установившегося режима.
+     * @return доля от 0 до 1
+     */
+    public double getErrorRate() {
+        return operations == 0 ? 0 : (double) errors / operations;
+    }
+
+    /**
+     * Задержка успешных заказов: количество, среднее, p50/p95/p99 и максимум в миллисекундах.
+     * @return сводка в формате {@link ru.praktikum.metrics.LatencyRecorder#summary()}
+     */
+    public Map<String, Object> getLatency() {
+        return latency;
+    }
+
+    /**
+     * Количество ошибок по типам: "rejected" для отклоненных заказов,
+     * иначе имя класса исключения.
+     * @return карта "тип - количество"
+     */
+    public Map<String, Long> getErrorsByType() {
+        return errorsByType;
+    }
+
+    public List<Map<String, Object>> getIntervals() {
+        return intervals;
+    }
+
+    /**
+     * Представляет итоги в виде карты для сериализации в JSON.
+     * @return карта с профилем, итогами и промежуточной статистикой
+     */
+    public Map<String, Object> toMap() {
+        Map<String, Object> profileMap = new LinkedHashMap<>();
+        profileMap.put("workers", profile.getWorkers());
+        profileMap.put("rampUpMs", profile.getRampUp().toMillis());
+        profileMap.put("steadyStateMs", profile.getSteadyState().toMillis());
+        profileMap.put("targetRatePerS", profile.getTargetRate());
+        profileMap.put("thinkTimeMs", profile.getThinkTime().toMillis());
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("profile", profileMap);
+        result.put("operations", operations);
+        result.put("errors", errors);
+        result.put("steadyElapsedMs", steadyElapsed.toMillis());
+        result.put("throughputPerS", Math.round(getThroughput() * 10) / 10.0);
+        result.put("lateStarts", lateStarts);
+        result.put("missedSlots", missedSlots);
+        result.put("errorRatePct", Math.round(getErrorRate() * 1000) / 10.0);
+        result.put("latency", latency);
+        result.put("errorsByType", errorsByType);
+        result.put("intervals", intervals);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("steady state: operations=%d, throughput=%.1f/s, errors=%.1f%%, "
+                        + "late starts=%d, missed slots=%d, p50=%s ms, p95=%s ms, p99=%s ms, max=%s ms",
+                operations, getThroughput(), getErrorRate() * 100, lateStarts, missedSlots,
+                latency.getOrDefault("p50Ms", "-"), latency.getOrDefault("p95Ms", "-"),
+                latency.getOrDefault("p99Ms", "-"), latency.getOrDefault("maxMs", "-"));
+    }
+}
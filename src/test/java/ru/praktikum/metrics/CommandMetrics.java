@@ -0,0 +1,191 @@
+package ru.praktikum.metrics;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.support.events.EventFiringDecorator;
+import org.openqa.selenium.support.events.WebDriverListener;
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Сбор метрик команд WebDriver.
+ * Декоратор вокруг драйвера замеряет количество и длительность каждой команды
+ * и помечает ее методом Page Object или сервиса, из которого она вызвана
+ * (например, OrderPage.fillFirstPage). Метрики копятся отдельно для каждого теста
+ * и для всего прогона и по завершении JVM записываются в target/webdriver-metrics.json.
+ * Отключается системным свойством "metrics=false".
+ */
+public final class CommandMetrics implements WebDriverListener {
+    private static final boolean ENABLED = !"false".equalsIgnoreCase(System.getProperty("metrics"));
+    private static final Path REPORT_FILE = Paths.get("target", "webdriver-metrics.json");
+    private static final String OWN_PACKAGE = CommandMetrics.class.getPackageName();
+    // Общие помощники Page Object (ожидания, клики) не считаются вызывающими методами
+    private static final String PAGE_SUPPORT_PACKAGE = "ru.praktikum.pages.support";
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance();
+    private static final CommandMetrics LISTENER = new CommandMetrics();
+
+    // Метрики текущего теста: вызывающий метод -> команда -> гистограмма
+    private static final ThreadLocal<Map<String, Map<String, LatencyHistogram>>> CURRENT_TEST =
+            ThreadLocal.withInitial(TreeMap::new);
+    private static final ThreadLocal<Deque<Long>> CALL_STARTS = ThreadLocal.withInitial(ArrayDeque::new);
+    private static final ThreadLocal<long[]> COMMAND_COUNT = ThreadLocal.withInitial(() -> new long[1]);
+    private static final Map<String, Map<String, LatencyHistogram>> SUITE = new TreeMap<>();
+    private static final Map<String, Map<String, Map<String, LatencyHistogram>>> TESTS = new LinkedHashMap<>();
+
+    static {
+        if (ENABLED) {
+            Runtime.getRuntime().addShutdownHook(new Thread(CommandMetrics::writeReport, "webdriver-metrics"));
+        }
+    }
+
+    private CommandMetrics() {
+    }
+
+    /**
+     * Оборачивает драйвер декоратором, замеряющим команды.
+     * @param driver исходный драйвер
+     * @return декорированный драйвер или исходный, если метрики отключены
+     */
+    public static WebDriver decorate(WebDriver driver) {
+        return ENABLED ? new EventFiringDecorator<>(LISTENER).decorate(driver) : driver;
+    }
+
+    /**
+     * Начинает сбор метрик нового теста в текущем потоке.
+     */
+    public static void startTest() {
+        CURRENT_TEST.get().clear();
+        CALL_STARTS.get().clear();
+    }
+
+    /**
+     * Завершает сбор метрик теста и добавляет их к метрикам прогона.
+     * @param testName имя теста
+     */
+    public static void finishTest(String testName) {
+        if (!ENABLED) {
+            return;
+        }
+        Map<String, Map<String, LatencyHistogram>> testMetrics = new TreeMap<>(CURRENT_TEST.get());
+        CURRENT_TEST.get().clear();
+        synchronized (SUITE) {
+            TESTS.put(testName, testMetrics);
+            testMetrics.forEach((caller, commands) -> commands.forEach((command, histogram) ->
+                    SUITE.computeIfAbsent(caller, key -> new TreeMap<>())
+                            .computeIfAbsent(command, key -> new LatencyHistogram())
+                            .merge(histogram)));
+        }
+    }
+
+    /**
+     * Возвращает количество команд WebDriver, выполненных текущим потоком с начала работы.
+     * Разность двух значений дает число команд, затраченных на операцию.
+     * @return счетчик команд текущего потока
+     */
+    public static long commandCount() {
+        return COMMAND_COUNT.get()[0];
+    }
+
+    /**
+     * Записывает длительность операции, выполненной не через драйвер (например, запуск браузера).
+     * @param caller метод, выполнивший операцию
+     * @param operation название операции
+     * @param nanos длительность в наносекундах
+     */
+    public static void record(String caller, String operation, long nanos) {
+        if (ENABLED) {
+            CURRENT_TEST.get()
+                    .computeIfAbsent(caller, key -> new TreeMap<>())
+                    .computeIfAbsent(operation, key -> new LatencyHistogram())
+                    .record(nanos);
+        }
+    }
+
+    @Override
+    public void beforeAnyCall(Object target, Method method, Object[] args) {
+        CALL_STARTS.get().push(System.nanoTime());
+    }
+
+    @Override
+    public void afterAnyCall(Object target, Method method, Object[] args, Object result) {
+        finishCall(method);
+    }
+
+    @Override
+    public void onError(Object target, Method method, Object[] args, InvocationTargetException e) {
+        finishCall(method);
+    }
+
+    private void finishCall(Method method) {
+        Long start = CALL_STARTS.get().poll();
+        if (start != null) {
+            COMMAND_COUNT.get()[0]++;
+            record(findCaller(), method.getDeclaringClass().getSimpleName() + "." + method.getName(),
+                    System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Находит ближайший метод проекта в стеке вызовов.
+     * Лямбды внутри Page Object приписываются объемлющему методу.
+     */
+    private static String findCaller() {
+        return STACK_WALKER.walk(frames -> frames
+                .filter(frame -> frame.getClassName().startsWith("ru.praktikum.")
+                        && !frame.getClassName().startsWith(OWN_PACKAGE)
+                        && !frame.getClassName().startsWith(PAGE_SUPPORT_PACKAGE))
+                .findFirst()
+                .map(frame -> {
+                    String className = frame.getClassName();
+                    int nested = className.indexOf('$');
+                    String simpleName = className.substring(className.lastIndexOf('.') + 1,
+                            nested > 0 ? nested : className.length());
+                    String methodName = frame.getMethodName();
+                    if (methodName.startsWith("lambda$")) {
+                        methodName = methodName.substring("lambda$".length(), methodName.lastIndexOf('$'));
+                    }
+                    return simpleName + "." + methodName;
+                })
+                .orElse("unknown"));
+    }
+
+    private static void writeReport() {
+        Map<String, Object> report = new LinkedHashMap<>();
+        synchronized (SUITE) {
+            if (TESTS.isEmpty()) {
+                return;
+            }
+            report.put("suite", toMap(SUITE));
+            Map<String, Object> tests = new LinkedHashMap<>();
+            TESTS.forEach((testName, metrics) -> tests.put(testName, toMap(metrics)));
+            report.put("tests", tests);
+        }
+        try {
+            Files.createDirectories(REPORT_FILE.getParent());
+            Files.write(REPORT_FILE, new Json().toJson(report).getBytes(StandardCharsets.UTF_8));
+            System.out.println("WebDriver command metrics written to " + REPORT_FILE);
+        } catch (IOException e) {
+            System.out.println("Failed to write WebDriver command metrics: " + e.getMessage());
+        }
+    }
+
+    private static Map<String, Object> toMap(Map<String, Map<String, LatencyHistogram>> metrics) {
+        Map<String, Object> callers = new LinkedHashMap<>();
+        metrics.forEach((caller, commands) -> {
+            Map<String, Object> commandMap = new LinkedHashMap<>();
+            commands.forEach((command, histogram) -> commandMap.put(command, histogram.toMap()));
+            callers.put(caller, commandMap);
+        });
+        return callers;
+    }
+}
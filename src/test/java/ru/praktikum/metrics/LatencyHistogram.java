@@ -0,0 +1,72 @@
+package ru.praktikum.metrics;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Гистограмма задержек с логарифмическими корзинами по миллисекундам:
+ * [0, 1), [1, 2), [2, 4), [4, 8) ... Хранит только счетчики,
+ * поэтому запись значения не выделяет память.
+ */
+public class LatencyHistogram {
+    private static final int BUCKETS = 20;
+
+    private final long[] counts = new long[BUCKETS];
+    private long count;
+    private long totalNanos;
+    private long maxNanos;
+
+    /**
+     * Добавляет значение в гистограмму.
+     * @param nanos задержка в наносекундах
+     */
+    public void record(long nanos) {
+        long millis = nanos / 1_000_000;
+        int bucket = millis == 0 ? 0 : Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(millis));
+        counts[bucket]++;
+        count++;
+        totalNanos += nanos;
+        maxNanos = Math.max(maxNanos, nanos);
+    }
+
+    /**
+     * Добавляет к гистограмме значения другой гистограммы.
+     * @param other гистограмма для объединения
+     */
+    public void merge(LatencyHistogram other) {
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] += other.counts[i];
+        }
+        count += other.count;
+        totalNanos += other.totalNanos;
+        maxNanos = Math.max(maxNanos, other.maxNanos);
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    /**
+     * Представляет гистограмму в виде карты для сериализации в JSON.
+     * Корзины обозначаются верхней (не включаемой) границей в миллисекундах: "1", "2", "4" ...
+     * @return карта с количеством, суммой, максимумом и корзинами
+     */
+    public Map<String, Object> toMap() {
+        Map<String, Object> buckets = new LinkedHashMap<>();
+        for (int i = 0; i < BUCKETS; i++) {
+            if (counts[i] > 0) {
+                buckets.put(String.valueOf(1L << i), counts[i]);
+            }
+        }
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("count", count);
+        result.put("totalMs", totalNanos / 1_000_000);
+        result.put("maxMs", maxNanos / 1_000_000);
+        result.put("bucketsUpperMs", buckets);
+        return result;
+    }
+}
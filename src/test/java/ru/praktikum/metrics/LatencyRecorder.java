@@ -0,0 +1,162 @@
+package ru.praktikum.metrics;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Точные перцентили задержек по фазам.
+ * В отличие от {@link LatencyHistogram} хранит все значения, поэтому p50/p95/p99
+ * считаются без погрешности корзин. Значения фазы хранятся в массиве примитивов,
+ * фазы выводятся в порядке первой записи. Потокобезопасен.
+ */
+public class LatencyRecorder {
+    // Ничего не записывает: фазы заказа не собираются, пока замер не установил свой экземпляр
+    private static final LatencyRecorder DISABLED = new LatencyRecorder(false);
+    // Фазы оформления заказа, которые заполняет OrderPage в потоке замера
+    private static final ThreadLocal<LatencyRecorder> ORDER_PHASES = ThreadLocal.withInitial(() -> DISABLED);
+
+    private final boolean enabled;
+    private final Map<String, Samples> phases = new LinkedHashMap<>();
+
+    /**
+     * Конструктор пустого набора фаз.
+     */
+    public LatencyRecorder() {
+        this(true);
+    }
+
+    private LatencyRecorder(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Возвращает набор фаз оформления заказа текущего потока: firstPage, secondPage,
+     * confirmModal и successModal. Если замер не установил набор через
+     * {@link #recordOrderPhases(LatencyRecorder)}, значения не сохраняются.
+     * @return набор фаз текущего потока
+     */
+    public static LatencyRecorder orderPhases() {
+        return ORDER_PHASES.get();
+    }
+
+    /**
+     * Направляет фазы заказов текущего потока в указанный набор.
+     * @param recorder набор фаз или null, чтобы прекратить запись
+     */
+    public static void recordOrderPhases(LatencyRecorder recorder) {
+        if (recorder == null) {
+            ORDER_PHASES.remove();
+        } else {
+            ORDER_PHASES.set(recorder);
+        }
+    }
+
+    /**
+     * Добавляет длительность фазы, начавшейся в startNanos.
+     * @param phase название фазы
+     * @param startNanos момент начала фазы, полученный из System.nanoTime()
+     */
+    public void recordSince(String phase, long startNanos) {
+        record(phase, System.nanoTime() - startNanos);
+    }
+
+    /**
+     * Добавляет длительность фазы.
+     * @param phase название фазы
+     * @param nanos длительность в наносекундах
+     */
+    public synchronized void record(String phase, long nanos) {
+        if (enabled) {
+            phases.computeIfAbsent(phase, key -> new Samples()).add(nanos);
+        }
+    }
+
+    /**
+     * Добавляет все значения другого набора, например фазы одного успешного заказа.
+     * @param other набор фаз
+     */
+    public void merge(LatencyRecorder other) {
+        Map<String, long[]> values = new LinkedHashMap<>();
+        synchronized (other) {
+            other.phases.forEach((phase, samples) -> values.put(phase, Arrays.copyOf(samples.values, samples.size)));
+        }
+        values.forEach((phase, samples) -> {
+            for (long nanos : samples) {
+                record(phase, nanos);
+            }
+        });
+    }
+
+    /**
+     * Удаляет все значения, например после прогрева.
+     */
+    public synchronized void reset() {
+        phases.clear();
+    }
+
+    /**
+     * Количество значений фазы.
+     * @param phase название фазы
+     * @return количество значений, 0 если фаза не записывалась
+     */
+    public synchronized int count(String phase) {
+        Samples samples = phases.get(phase);
+        return samples == null ? 0 : samples.size;
+    }
+
+    /**
+     * Сводка по всем фазам: количество, среднее, p50/p95/p99 и максимум в миллисекундах.
+     * @return карта "фаза - сводка" для вывода и сериализации в JSON
+     */
+    public synchronized Map<String, Map<String, Object>> summary() {
+        Map<String, Map<String, Object>> result = new LinkedHashMap<>();
+        phases.forEach((phase, samples) -> {
+            long[] sorted = Arrays.copyOf(samples.values, samples.size);
+            Arrays.sort(sorted);
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("count", sorted.length);
+            stats.put("meanMs", toMillis((long) Arrays.stream(sorted).average().orElse(0)));
+            stats.put("p50Ms", toMillis(percentile(sorted, 50)));
+            stats.put("p95Ms", toMillis(percentile(sorted, 95)));
+            stats.put("p99Ms", toMillis(percentile(sorted, 99)));
+            stats.put("maxMs", toMillis(sorted.length == 0 ? 0 : sorted[sorted.length - 1]));
+            result.put(phase, stats);
+        });
+        return result;
+    }
+
+    /**
+     * Перцентиль методом ближайшего ранга: наименьшее значение, не меньше которого
+     * не более (100 - p)% значений.
+     * @param sorted значения, отсортированные по возрастанию
+     * @param p перцентиль от 0 до 100
+     * @return значение перцентиля, 0 для пустого массива
+     */
+    public static long percentile(long[] sorted, double p) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(p / 100 * sorted.length);
+        return sorted[Math.max(0, Math.min(sorted.length, rank) - 1)];
+    }
+
+    private static double toMillis(long nanos) {
+        return Math.round(nanos / 100_000.0) / 10.0;
+    }
+
+    /**
+     * Значения одной фазы в расширяемом массиве примитивов.
+     */
+    private static class Samples {
+        private long[] values = new long[16];
+        private int size;
+
+        void add(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+    }
+}
@@ -2,10 +2,14 @@ package ru.praktikum.pages;
 
 import org.openqa.selenium.*;
 import org.openqa.selenium.support.ui.ExpectedConditions;
-import org.openqa.selenium.support.ui.WebDriverWait;
-import java.time.Duration;
+import org.openqa.selenium.support.ui.Wait;
+import ru.praktikum.pages.support.ElementCache;
+import ru.praktikum.pages.support.Interactions;
+import ru.praktikum.pages.support.WaitEngine;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
 
 /**
  * Page Object для главной страницы Яндекс. Самоката.
@@ -13,7 +17,9 @@ import java.util.Set;
  */
 public class HomePage {
     private final WebDriver driver;
-    private final WebDriverWait wait;
+    private final Wait<WebDriver> wait;
+    private final ElementCache cache;
+    private final Interactions interactions;
 
     // Локаторы элементов
     private final By cookieBanner = By.className("App_CookieConsent__1yUIN");
@@ -24,17 +30,34 @@ public class HomePage {
     private final By orderStatusButton = By.xpath(".//button[text()='Статус заказа']");
     private final By faqQuestions = By.cssSelector("[id^='accordion__heading-']");
 
+    // Раскрывает вопросы по очереди и читает текст соответствующих ответов.
+    // Возвращает null, пока аккордеон не отрисован, чтобы скрипт можно было повторять в ожидании.
+    private static final String READ_ALL_FAQ_ANSWERS_SCRIPT =
+            "var headings = document.querySelectorAll(\"[id^='accordion__heading-']\");"
+            + "if (headings.length === 0) { return null; }"
+            + "var answers = {};"
+            + "for (var i = 0; i < headings.length; i++) {"
+            + "  headings[i].click();"
+            + "  var panel = document.getElementById('accordion__panel-' + i);"
+            + "  if (panel) { answers[i] = (panel.innerText || panel.textContent).trim(); }"
+            + "}"
+            + "return answers;";
+
     /**
      * Конструктор класса HomePage.
      * @param driver экземпляр WebDriver
      */
     public HomePage(WebDriver driver) {
         this.driver = driver;
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(15));
+        this.wait = WaitEngine.current().on(driver);
+        this.cache = new ElementCache(this, driver, wait);
+        this.interactions = new Interactions(driver, cache);
     }
 
     /**
-     * Закрывает баннер с куки, если он отображается.
+     * Закрывает баннер с куки, если он отображается, дожидаясь его появления.
+     * Используется только тестами, проверяющими сам баннер: остальные тесты
+     * получают страницу с заранее записанным согласием, см. CookieConsent.
      */
     public void closeCookieBanner() {
         try {
@@ -48,16 +71,44 @@ public class HomePage {
         }
     }
 
+    /**
+     * Закрывает баннер с куки без ожидания, если он уже отображается.
+     */
+    public void dismissCookieBannerIfPresent() {
+        if (isCookieBannerDisplayed()) {
+            driver.findElement(cookieConfirmButton).click();
+        }
+    }
+
+    /**
+     * Ожидает появления баннера с куки.
+     * @return true если баннер отобразился, иначе false
+     */
+    public boolean waitForCookieBanner() {
+        try {
+            return wait.until(ExpectedConditions.visibilityOfElementLocated(cookieBanner)).isDisplayed();
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    /**
+     * Проверяет без ожидания, отображается ли баннер с куки.
+     * @return true если баннер отображается, иначе false
+     */
+    public boolean isCookieBannerDisplayed() {
+        List<WebElement> banners = driver.findElements(cookieBanner);
+        return !banners.isEmpty() && banners.get(0).isDisplayed();
+    }
+
     /**
      * Нажимает кнопку "Заказать".
      * @param isTopButton true - верхняя кнопка, false - нижняя
      * @return экземпляр OrderPage
      */
     public OrderPage clickOrderButton(boolean isTopButton) {
-        By locator = isTopButton ? orderTopButton : orderBottomButton;
-        WebElement button = wait.until(ExpectedConditions.elementToBeClickable(locator));
-        scrollToElement(button);
-        button.click();
+        interactions.click(isTopButton ? orderTopButton : orderBottomButton);
+        cache.invalidate();
         return new OrderPage(driver);
     }
 
@@ -65,9 +116,7 @@ public class HomePage {
      * Нажимает на логотип Яндекса.
      */
     public void clickYandexLogo() {
-        WebElement logo = wait.until(ExpectedConditions.elementToBeClickable(yandexLogo));
-        scrollToElement(logo);
-        logo.click();
+        interactions.click(yandexLogo);
     }
 
     /**
@@ -75,27 +124,22 @@ public class HomePage {
      * @return экземпляр OrderStatusPage
      */
     public OrderStatusPage clickOrderStatusButton() {
-        WebElement button = wait.until(ExpectedConditions.elementToBeClickable(orderStatusButton));
-        scrollToElement(button);
-        button.click();
+        interactions.click(orderStatusButton);
+        cache.invalidate();
         return new OrderStatusPage(driver);
     }
 
     /**
      * Открывает вопрос в FAQ по индексу.
+     * Список вопросов и заголовки берутся из кэша страницы; если аккордеон перерисован,
+     * устаревший заголовок ищется заново при повторе клика.
      * @param index индекс вопроса (0-7)
      */
     public void openFaqQuestion(int index) {
-        List<WebElement> questions = wait.until(
-                ExpectedConditions.presenceOfAllElementsLocatedBy(faqQuestions));
+        List<WebElement> questions = cache.all(faqQuestions);
 
         if (index >= 0 && index < questions.size()) {
-            try {
-                scrollAndClick(questions.get(index));
-            } catch (StaleElementReferenceException e) {
-                questions = driver.findElements(faqQuestions);
-                scrollAndClick(questions.get(index));
-            }
+            interactions.click(By.id("accordion__heading-" + index));
         }
     }
 
@@ -110,6 +154,19 @@ public class HomePage {
         return answer.getText().trim();
     }
 
+    /**
+     * Раскрывает все вопросы FAQ и получает тексты ответов одним вызовом скрипта.
+     * @return ответы, упорядоченные по индексу вопроса
+     */
+    public Map<Integer, String> getAllFaqAnswers() {
+        Map<?, ?> raw = wait.until(driver ->
+                (Map<?, ?>) ((JavascriptExecutor) driver).executeScript(READ_ALL_FAQ_ANSWERS_SCRIPT));
+
+        Map<Integer, String> answers = new TreeMap<>();
+        raw.forEach((index, answer) -> answers.put(Integer.valueOf(index.toString()), String.valueOf(answer)));
+        return answers;
+    }
+
     /**
      * Получает текущий URL страницы.
      * @return текущий URL
@@ -163,15 +220,4 @@ public class HomePage {
             }
         }
     }
-
-    // Вспомогательные методы
-    private void scrollToElement(WebElement element) {
-        ((JavascriptExecutor) driver).executeScript(
-                "arguments[0].scrollIntoView({block: 'center', behavior: 'smooth'});", element);
-    }
-
-    private void scrollAndClick(WebElement element) {
-        scrollToElement(element);
-        element.click();
-    }
 }
\ No newline at end of file
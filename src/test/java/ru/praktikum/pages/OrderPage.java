@@ -2,9 +2,16 @@ package ru.praktikum.pages;
 
 import org.openqa.selenium.*;
 import org.openqa.selenium.support.ui.ExpectedConditions;
-import org.openqa.selenium.support.ui.WebDriverWait;
-import java.time.Duration;
+import org.openqa.selenium.support.ui.Wait;
+import ru.praktikum.metrics.CommandMetrics;
+import ru.praktikum.metrics.LatencyRecorder;
+import ru.praktikum.pages.support.ElementCache;
+import ru.praktikum.pages.support.Interactions;
+import ru.praktikum.pages.support.PerformanceProbe;
+import ru.praktikum.pages.support.WaitEngine;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Page Object для страницы оформления заказа.
@@ -12,23 +19,65 @@ import java.util.List;
  */
 public class OrderPage {
     private final WebDriver driver;
-    private final WebDriverWait wait;
+    private final Wait<WebDriver> wait;
+    private final ElementCache cache;
+    private final Interactions interactions;
+    // Замер перехода, который завершится при появлении следующего шага формы или окна успеха
+    private PerformanceProbe.Step pendingStep;
+    // Заказ подтвержден, и фаза "successModal" еще не записана
+    private boolean awaitingSuccessModal;
+
+    // Плейсхолдеры текстовых полей формы заказа
+    private static final String NAME_PLACEHOLDER = "* Имя";
+    private static final String SURNAME_PLACEHOLDER = "* Фамилия";
+    private static final String ADDRESS_PLACEHOLDER = "* Адрес: куда привезти заказ";
+    private static final String PHONE_PLACEHOLDER = "* Телефон: на него позвонит курьер";
+    private static final String COMMENT_PLACEHOLDER = "Комментарий для курьера";
+    private static final String INPUT_BY_PLACEHOLDER = "//input[@placeholder='%s']";
+
+    // Заполняет текстовые поля по плейсхолдерам одним вызовом. Значение записывается через
+    // нативный сеттер, а события input/change позволяют React увидеть его и провалидировать.
+    // Возвращает плейсхолдеры полей, которые не найдены на странице.
+    private static final String BATCH_FILL_SCRIPT =
+            "var setter = Object.getOwnPropertyDescriptor(HTMLInputElement.prototype, 'value').set;"
+            + "var values = arguments[0];"
+            + "var missing = [];"
+            + "var inputs = Array.prototype.slice.call(document.querySelectorAll('input[placeholder]'));"
+            + "Object.keys(values).forEach(function (placeholder) {"
+            + "  var input = inputs.filter(function (el) { return el.placeholder === placeholder; })[0];"
+            + "  if (!input) { missing.push(placeholder); return; }"
+            + "  input.focus();"
+            + "  setter.call(input, values[placeholder]);"
+            + "  input.dispatchEvent(new Event('input', {bubbles: true}));"
+            + "  input.dispatchEvent(new Event('change', {bubbles: true}));"
+            + "  input.blur();"
+            + "});"
+            + "return missing;";
+
+    // Режим заполнения: "keys" - посимвольный ввод, "batch" - один скрипт на все текстовые поля
+    private static final boolean BATCH_FILL = "batch".equalsIgnoreCase(System.getProperty("order.fill", "keys"));
+    // Вывод строки [fill] после заполнения каждой страницы формы (по умолчанию выключен)
+    private static final boolean LOG_FILL = Boolean.getBoolean("order.fill.log");
+
+    // Заголовки второго шага формы и окна успешного заказа, по появлению которых завершаются замеры шагов
+    private static final String RENTAL_TITLE = "//div[text()='Про аренду']";
+    private static final String SUCCESS_TITLE = ".Order_ModalHeader__3FDaJ";
 
     // Локаторы элементов формы заказа
-    private final By nameField = By.xpath("//input[@placeholder='* Имя']");
-    private final By surnameField = By.xpath("//input[@placeholder='* Фамилия']");
-    private final By addressField = By.xpath("//input[@placeholder='* Адрес: куда привезти заказ']");
+    private final By nameField = By.xpath(String.format(INPUT_BY_PLACEHOLDER, NAME_PLACEHOLDER));
+    private final By surnameField = By.xpath(String.format(INPUT_BY_PLACEHOLDER, SURNAME_PLACEHOLDER));
+    private final By addressField = By.xpath(String.format(INPUT_BY_PLACEHOLDER, ADDRESS_PLACEHOLDER));
     private final By metroField = By.xpath("//input[@placeholder='* Станция метро']");
-    private final By phoneField = By.xpath("//input[@placeholder='* Телефон: на него позвонит курьер']");
+    private final By phoneField = By.xpath(String.format(INPUT_BY_PLACEHOLDER, PHONE_PLACEHOLDER));
     private final By nextButton = By.xpath("//button[text()='Далее']");
     private final By dateField = By.xpath("//input[@placeholder='* Когда привезти самокат']");
     private final By rentalPeriod = By.className("Dropdown-placeholder");
     private final By colorBlack = By.id("black");
     private final By colorGrey = By.id("grey");
-    private final By commentField = By.xpath("//input[@placeholder='Комментарий для курьера']");
+    private final By commentField = By.xpath(String.format(INPUT_BY_PLACEHOLDER, COMMENT_PLACEHOLDER));
     private final By orderButton = By.xpath("//button[contains(@class, 'Button_Middle') and text()='Заказать']");
     private final By confirmButton = By.xpath("//button[text()='Да']");
-    private final By successTitle = By.className("Order_ModalHeader__3FDaJ");
+    private final By successTitle = By.cssSelector(SUCCESS_TITLE);
     private final By validationErrors = By.cssSelector(".Input_ErrorMessage__3HvIb");
 
     // Локаторы для периода аренды
@@ -40,11 +89,29 @@ public class OrderPage {
      */
     public OrderPage(WebDriver driver) {
         this.driver = driver;
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(15));
+        this.wait = WaitEngine.current().on(driver);
+        this.cache = new ElementCache(this, driver, wait);
+        this.interactions = new Interactions(driver, cache);
+    }
+
+    /**
+     * Открывает форму заказа напрямую по адресу, минуя главную страницу.
+     * @param driver экземпляр WebDriver
+     * @param baseUrl адрес главной страницы приложения (со слэшем на конце)
+     * @return экземпляр OrderPage
+     */
+    public static OrderPage open(WebDriver driver, String baseUrl) {
+        driver.get(baseUrl + "order");
+        PerformanceProbe.captureLoad(driver, "OrderPage");
+        return new OrderPage(driver);
     }
 
     /**
      * Заполняет первую страницу формы заказа.
+     * В режиме "order.fill=batch" текстовые поля заполняются одним скриптом,
+     * а станция метро, как и раньше, выбирается вводом с клавиатуры.
+     * Длительность от начала ожидания формы до нажатия "Далее" записывается как фаза "firstPage"
+     * в набор фаз текущего потока, если его установил замер (см. {@link LatencyRecorder#orderPhases()}).
      * @param name Имя
      * @param surname Фамилия
      * @param address Адрес
@@ -52,45 +119,83 @@ public class OrderPage {
      * @param phone Телефон
      */
     public void fillFirstPage(String name, String surname, String address, String metro, String phone) {
-        setFieldValue(nameField, name);
-        setFieldValue(surnameField, surname);
-        setFieldValue(addressField, address);
+        long phaseStart = System.nanoTime();
+        // Неявное ожидание не используется, поэтому дожидаемся отрисовки формы явно.
+        // Найденное поле имени остается в кэше и используется при заполнении
+        cache.whenVisible(nameField, element -> element);
+        long commandsBefore = CommandMetrics.commandCount();
+        long start = System.nanoTime();
+
+        if (BATCH_FILL) {
+            Map<String, String> values = new LinkedHashMap<>();
+            values.put(NAME_PLACEHOLDER, name);
+            values.put(SURNAME_PLACEHOLDER, surname);
+            values.put(ADDRESS_PLACEHOLDER, address);
+            values.put(PHONE_PLACEHOLDER, phone);
+            batchFill(values);
+        } else {
+            setFieldValue(nameField, name);
+            setFieldValue(surnameField, surname);
+            setFieldValue(addressField, address);
+        }
 
         if (metro != null && !metro.isEmpty()) {
             selectMetroStation(metro);
         }
 
-        setFieldValue(phoneField, phone);
+        if (!BATCH_FILL) {
+            setFieldValue(phoneField, phone);
+        }
+        logFill("fillFirstPage", commandsBefore, start);
+        pendingStep = PerformanceProbe.startStep(driver, "orderNextStep", RENTAL_TITLE);
         clickNextButton();
+        LatencyRecorder.orderPhases().recordSince("firstPage", phaseStart);
     }
 
     /**
      * Заполняет вторую страницу формы заказа.
+     * Длительность от начала ожидания второй страницы до нажатия "Заказать" записывается
+     * как фаза "secondPage", ожидание и подтверждение окна "Хотите оформить заказ?" - как "confirmModal".
      * @param date Дата доставки
      * @param period Период аренды
      * @param color Цвет самоката
      * @param comment Комментарий
      */
     public void fillSecondPage(String date, String period, String color, String comment) {
-        wait.until(ExpectedConditions.visibilityOfElementLocated(
-                By.xpath("//div[text()='Про аренду']")));
+        long phaseStart = System.nanoTime();
+        wait.until(ExpectedConditions.visibilityOfElementLocated(By.xpath(RENTAL_TITLE)));
+        finishPendingStep();
 
+        long commandsBefore = CommandMetrics.commandCount();
+        long start = System.nanoTime();
         setDate(date);
         selectRentalPeriod(period);
         selectColor(color);
         setComment(comment);
+        logFill("fillSecondPage", commandsBefore, start);
         clickOrderButton();
+        LatencyRecorder.orderPhases().recordSince("secondPage", phaseStart);
+        long confirmStart = System.nanoTime();
         confirmOrder();
+        LatencyRecorder.orderPhases().recordSince("confirmModal", confirmStart);
     }
 
     /**
      * Проверяет отображение модального окна успешного заказа.
+     * Время до появления окна после подтверждения заказа записывается как фаза "successModal",
+     * повторные проверки той же формы фазу не записывают.
      * @return true если окно отображается, иначе false
      */
     public boolean isSuccessModalDisplayed() {
+        long phaseStart = System.nanoTime();
         try {
-            return wait.until(ExpectedConditions.visibilityOfElementLocated(successTitle))
-                    .isDisplayed();
+            boolean displayed = cache.whenVisible(successTitle, WebElement::isDisplayed);
+            if (awaitingSuccessModal) {
+                LatencyRecorder.orderPhases().recordSince("successModal", phaseStart);
+                awaitingSuccessModal = false;
+            }
+            finishPendingStep();
+            return displayed;
         } catch (Exception e) {
             return false;
         }
@@ -114,10 +219,11 @@ public class OrderPage {
      * Использует String.format для формирования динамического локатора.
      */
     private void selectMetroStation(String stationName) {
-        WebElement metroInput = driver.findElement(metroField);
-        metroInput.click();
-        metroInput.clear();
-        metroInput.sendKeys(stationName);
+        cache.perform(metroField, metroInput -> {
+            metroInput.click();
+            metroInput.clear();
+            metroInput.sendKeys(stationName);
+        });
 
         String xpath = String.format(
                 "//div[contains(@class, 'select-search__select')]//*[contains(text(), '%s')]",
@@ -139,13 +245,16 @@ public class OrderPage {
     }
 
     private void clickNextButton() {
-        wait.until(ExpectedConditions.elementToBeClickable(nextButton)).click();
+        interactions.click(nextButton);
+        // Первая страница формы заменяется второй
+        cache.invalidate();
     }
 
     private void setDate(String date) {
-        WebElement dateElement = driver.findElement(dateField);
-        dateElement.clear();
-        dateElement.sendKeys(date, Keys.ENTER);
+        cache.perform(dateField, dateElement -> {
+            dateElement.clear();
+            dateElement.sendKeys(date, Keys.ENTER);
+        });
     }
 
     /**
@@ -153,40 +262,84 @@ public class OrderPage {
      * Использует String.format для формирования динамического локатора.
      */
     private void selectRentalPeriod(String period) {
-        driver.findElement(rentalPeriod).click();
+        cache.perform(rentalPeriod, WebElement::click);
 
         String periodOptionXpath = String.format(RENTAL_PERIOD_OPTION, period);
-        driver.findElement(By.xpath(periodOptionXpath)).click();
+        wait.until(ExpectedConditions.elementToBeClickable(By.xpath(periodOptionXpath))).click();
     }
 
     private void selectColor(String color) {
         if ("black".equals(color)) {
-            driver.findElement(colorBlack).click();
+            cache.perform(colorBlack, WebElement::click);
         } else if ("grey".equals(color)) {
-            driver.findElement(colorGrey).click();
+            cache.perform(colorGrey, WebElement::click);
         }
     }
 
     private void setComment(String comment) {
-        setFieldValue(commentField, comment);
+        if (BATCH_FILL) {
+            Map<String, String> values = new LinkedHashMap<>();
+            values.put(COMMENT_PLACEHOLDER, comment);
+            batchFill(values);
+        } else {
+            setFieldValue(commentField, comment);
+        }
     }
 
     private void clickOrderButton() {
-        WebElement button = driver.findElement(orderButton);
-        ((JavascriptExecutor) driver)
-                .executeScript("arguments[0].scrollIntoView();", button);
-        button.click();
+        interactions.click(orderButton);
     }
 
     private void confirmOrder() {
-        wait.until(ExpectedConditions.elementToBeClickable(confirmButton)).click();
+        pendingStep = PerformanceProbe.startStep(driver, "successModal", SUCCESS_TITLE);
+        interactions.click(confirmButton);
+        awaitingSuccessModal = true;
+        // Окно подтверждения заменяется окном успешного заказа
+        cache.invalidate();
+    }
+
+    private void finishPendingStep() {
+        if (pendingStep != null) {
+            pendingStep.finish();
+            pendingStep = null;
+        }
     }
 
     private void setFieldValue(By locator, String value) {
         if (value != null && !value.isEmpty()) {
-            WebElement element = driver.findElement(locator);
-            element.clear();
-            element.sendKeys(value);
+            cache.perform(locator, element -> {
+                element.clear();
+                element.sendKeys(value);
+            });
+        }
+    }
+
+    /**
+     * Заполняет текстовые поля одним вызовом скрипта.
+     * Пустые значения пропускаются, как и при вводе с клавиатуры.
+     * Поля, которые скрипт не нашел, заполняются посимвольным вводом.
+     */
+    private void batchFill(Map<String, String> values) {
+        values.values().removeIf(value -> value == null || value.isEmpty());
+        if (values.isEmpty()) {
+            return;
+        }
+        List<?> missing = (List<?>) ((JavascriptExecutor) driver).executeScript(BATCH_FILL_SCRIPT, values);
+        for (Object placeholder : missing) {
+            setFieldValue(By.xpath(String.format(INPUT_BY_PLACEHOLDER, placeholder)), values.get(placeholder));
+        }
+    }
+
+    /**
+     * Выводит количество команд WebDriver и время заполнения страницы формы
+     * для сравнения режимов "keys" и "batch", если задано "order.fill.log=true".
+     */
+    private void logFill(String step, long commandsBefore, long startNanos) {
+        if (!LOG_FILL) {
+            return;
         }
+        System.out.println(String.format("[fill] OrderPage.%s mode=%s commands=%d time=%d ms",
+                step, BATCH_FILL ? "batch" : "keys",
+                CommandMetrics.commandCount() - commandsBefore, (System.nanoTime() - startNanos) / 1_000_000));
     }
 }
\ No newline at end of file
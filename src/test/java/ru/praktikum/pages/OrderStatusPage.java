@@ -3,22 +3,32 @@ package ru.praktikum.pages;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
-import org.openqa.selenium.support.ui.ExpectedConditions;
-import org.openqa.selenium.support.ui.WebDriverWait;
-import java.time.Duration;
+import ru.praktikum.pages.support.ElementCache;
+import ru.praktikum.pages.support.Interactions;
+import ru.praktikum.pages.support.PerformanceProbe;
+import ru.praktikum.pages.support.WaitEngine;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
 
 /**
  * Page Object для страницы проверки статуса заказа.
  * Инкапсулирует взаимодействие с элементами страницы статуса заказа.
  */
 public class OrderStatusPage {
+    private static final String TRACK_ROUTE = "track?t=";
+    // Сообщение "Заказ не найден", по появлению которого завершается замер поиска
+    private static final String NOT_FOUND_MESSAGE = ".Track_NotFound__6oaoY";
+
     private final WebDriver driver;
-    private final WebDriverWait wait;
+    private final ElementCache cache;
+    private final Interactions interactions;
+    // Замер поиска заказа, который завершится при появлении результата
+    private PerformanceProbe.Step pendingLookup;
 
     // Локаторы элементов страницы
     private final By orderIdField = By.xpath("//input[@placeholder='Введите номер заказа']");
     private final By goButton = By.xpath("//button[text()='Go!']");
-    private final By notFoundMessage = By.className("Track_NotFound__6oaoY");
+    private final By notFoundMessage = By.cssSelector(NOT_FOUND_MESSAGE);
     private final By scooterLogo = By.className("Header_LogoScooter__3lsAR");
 
     /**
@@ -27,7 +37,43 @@ public class OrderStatusPage {
      */
     public OrderStatusPage(WebDriver driver) {
         this.driver = driver;
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(15));
+        this.cache = new ElementCache(this, driver, WaitEngine.current().on(driver));
+        this.interactions = new Interactions(driver, cache);
+    }
+
+    /**
+     * Открывает страницу статуса заказа напрямую по адресу с номером заказа в параметре,
+     * без перехода с главной страницы и ввода номера.
+     * @param driver экземпляр WebDriver
+     * @param baseUrl адрес главной страницы приложения (со слэшем на конце)
+     * @param orderId номер заказа
+     * @return экземпляр OrderStatusPage
+     * @throws IllegalArgumentException если orderId равен null или пуст
+     */
+    public static OrderStatusPage open(WebDriver driver, String baseUrl, String orderId) {
+        OrderStatusPage page = new OrderStatusPage(driver);
+        page.navigateToOrder(baseUrl, orderId);
+        return page;
+    }
+
+    /**
+     * Открывает статус другого заказа на этой же странице одной навигацией.
+     * Подходит для последовательной проверки многих номеров.
+     * @param baseUrl адрес главной страницы приложения (со слэшем на конце)
+     * @param orderId номер заказа
+     * @return текущий экземпляр OrderStatusPage
+     * @throws IllegalArgumentException если orderId равен null или пуст
+     */
+    public OrderStatusPage navigateToOrder(String baseUrl, String orderId) {
+        if (orderId == null || orderId.trim().isEmpty()) {
+            throw new IllegalArgumentException("Order ID cannot be null or empty");
+        }
+        driver.get(baseUrl + TRACK_ROUTE + URLEncoder.encode(orderId.trim(), StandardCharsets.UTF_8));
+        cache.invalidate();
+        PerformanceProbe.captureLoad(driver, "OrderStatusPage");
+        // Поиск по прямой ссылке начинается вместе с навигацией
+        pendingLookup = PerformanceProbe.startStepAtNavigation(driver, "statusLookup", NOT_FOUND_MESSAGE);
+        return this;
     }
 
     /**
@@ -41,18 +87,21 @@ public class OrderStatusPage {
             throw new IllegalArgumentException("Order ID cannot be null or empty");
         }
 
-        WebElement input = wait.until(ExpectedConditions.visibilityOfElementLocated(orderIdField));
-        ((org.openqa.selenium.JavascriptExecutor) driver).executeScript(
+        cache.whenVisible(orderIdField, input -> ((org.openqa.selenium.JavascriptExecutor) driver).executeScript(
                 "arguments[0].value = arguments[1];",
                 input,
                 orderId
-        );
+        ));
 
-        WebElement button = driver.findElement(goButton);
-        ((org.openqa.selenium.JavascriptExecutor) driver).executeScript(
-                "arguments[0].scrollIntoView(); arguments[0].click();",
-                button
-        );
+        cache.perform(goButton, button -> {
+            pendingLookup = PerformanceProbe.startStep(driver, "statusLookup", NOT_FOUND_MESSAGE);
+            ((org.openqa.selenium.JavascriptExecutor) driver).executeScript(
+                    "arguments[0].scrollIntoView(); arguments[0].click();",
+                    button
+            );
+        });
+        // Результат поиска перерисовывает страницу
+        cache.invalidate();
         return this;
     }
 
@@ -62,8 +111,12 @@ public class OrderStatusPage {
      */
     public boolean isNotFoundDisplayed() {
         try {
-            return wait.until(ExpectedConditions.visibilityOfElementLocated(notFoundMessage))
-                    .isDisplayed();
+            boolean displayed = cache.whenVisible(notFoundMessage, WebElement::isDisplayed);
+            if (pendingLookup != null) {
+                pendingLookup.finish();
+                pendingLookup = null;
+            }
+            return displayed;
         } catch (Exception e) {
             return false;
         }
@@ -75,8 +128,8 @@ public class OrderStatusPage {
      */
     public HomePage clickScooterLogo() {
         try {
-            WebElement logo = wait.until(ExpectedConditions.elementToBeClickable(scooterLogo));
-            logo.click();
+            interactions.click(scooterLogo);
+            cache.invalidate();
             return new HomePage(driver);
         } catch (Exception e) {
             throw new RuntimeException("Failed to click scooter logo: " + e.getMessage(), e);
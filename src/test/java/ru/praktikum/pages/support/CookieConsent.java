@@ -0,0 +1,77 @@
+package ru.praktikum.pages.support;
+
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.chromium.HasCdp;
+import java.net.URI;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Управление согласием на использование куки.
+ * Приложение не показывает баннер, если установлена кука "CookieConsent=true",
+ * поэтому ее запись до первой загрузки страницы избавляет тесты от ожидания
+ * и закрытия баннера.
+ */
+public final class CookieConsent {
+    private static final String COOKIE_NAME = "CookieConsent";
+    private static final String COOKIE_VALUE = "true";
+
+    private CookieConsent() {
+    }
+
+    /**
+     * Записывает куку согласия для домена приложения до открытия его страниц.
+     * В Chrome кука записывается через DevTools, в HtmlUnit - в хранилище клиента,
+     * в обоих случаях без навигации. В остальных браузерах,
+     * если текущая страница не принадлежит приложению, предварительно открывается
+     * легкий ресурс того же домена (favicon.ico), так как WebDriver позволяет
+     * записывать куки только для открытой страницы.
+     * @param driver экземпляр WebDriver
+     * @param baseUrl адрес главной страницы приложения
+     */
+    public static void seed(WebDriver driver, String baseUrl) {
+        if (driver instanceof HasCdp) {
+            try {
+                Map<String, Object> cookie = new HashMap<>();
+                cookie.put("name", COOKIE_NAME);
+                cookie.put("value", COOKIE_VALUE);
+                cookie.put("url", baseUrl);
+                cookie.put("path", "/");
+                ((HasCdp) driver).executeCdpCommand("Network.setCookie", cookie);
+                return;
+            } catch (WebDriverException e) {
+                System.out.println("Failed to seed cookie consent via CDP, falling back: " + e.getMessage());
+            }
+        }
+        if (driver instanceof HeadlessDom) {
+            ((HeadlessDom) driver).addCookie(baseUrl, COOKIE_NAME, COOKIE_VALUE);
+            return;
+        }
+        if (!isSameOrigin(driver.getCurrentUrl(), baseUrl)) {
+            driver.get(baseUrl + "favicon.ico");
+        }
+        driver.manage().addCookie(new Cookie(COOKIE_NAME, COOKIE_VALUE, "/"));
+    }
+
+    /**
+     * Удаляет куку согласия, чтобы при следующей загрузке страницы баннер отобразился.
+     * @param driver экземпляр WebDriver, открытый на странице приложения
+     */
+    public static void clear(WebDriver driver) {
+        driver.manage().deleteCookieNamed(COOKIE_NAME);
+    }
+
+    private static boolean isSameOrigin(String currentUrl, String baseUrl) {
+        try {
+            URI current = URI.create(currentUrl);
+            URI base = URI.create(baseUrl);
+            return base.getScheme().equals(current.getScheme())
+                    && base.getHost().equals(current.getHost())
+                    && base.getPort() == current.getPort();
+        } catch (IllegalArgumentException | NullPointerException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,220 @@
+package ru.praktikum.pages.support;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+import org.openqa.selenium.support.ui.Wait;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Кэш найденных элементов одного Page Object по локатору.
+ * Повторное обращение к элементу не требует запроса к браузеру на его поиск.
+ * Кэш сбрасывается целиком, когда Page Object сообщает о переходе или замене содержимого
+ * страницы ({@link #invalidate()}), и когда элемент оказался устаревшим: тогда действие
+ * повторяется один раз с заново найденным элементом. Попадания и промахи считаются по классам
+ * Page Object и выводятся в конце прогона. Отключается свойством "element.cache=false":
+ * тогда каждый поиск выполняется заново и считается промахом.
+ */
+public final class ElementCache {
+    private static final boolean ENABLED = !"false".equalsIgnoreCase(System.getProperty("element.cache"));
+
+    // Статистика по классам Page Object за весь прогон
+    private static final Map<String, CacheStats> STATS = new ConcurrentHashMap<>();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(ElementCache::printReport, "element-cache"));
+    }
+
+    private final WebDriver driver;
+    private final Wait<WebDriver> wait;
+    private final CacheStats stats;
+    private final Map<By, WebElement> elements = new HashMap<>();
+    private final Map<By, List<WebElement>> lists = new HashMap<>();
+
+    /**
+     * Конструктор кэша.
+     * @param owner Page Object, которому принадлежит кэш (для статистики)
+     * @param driver экземпляр WebDriver
+     * @param wait ожидание Page Object, через которое ищутся еще не появившиеся элементы
+     */
+    public ElementCache(Object owner, WebDriver driver, Wait<WebDriver> wait) {
+        this.driver = driver;
+        this.wait = wait;
+        this.stats = STATS.computeIfAbsent(owner.getClass().getSimpleName(), key -> new CacheStats());
+    }
+
+    /**
+     * Выполняет действие над элементом, найденным без ожидания.
+     * @param locator локатор элемента
+     * @param action действие
+     * @throws org.openqa.selenium.NoSuchElementException если элемента нет на странице
+     */
+    public void perform(By locator, Consumer<WebElement> action) {
+        apply(locator, Lookup.FIND, element -> {
+            action.accept(element);
+            return null;
+        });
+    }
+
+    /**
+     * Выполняет действие над элементом, при промахе дожидаясь его видимости.
+     * Элемент из кэша был видим, когда его нашли, поэтому повторное ожидание не выполняется.
+     * @param locator локатор элемента
+     * @param action действие
+     * @return результат действия
+     * @throws org.openqa.selenium.TimeoutException если элемент не стал видимым
+     */
+    public <T> T whenVisible(By locator, Function<WebElement, T> action) {
+        return apply(locator, Lookup.VISIBLE, action);
+    }
+
+    /**
+     * Выполняет действие над элементом, при промахе дожидаясь его появления в DOM.
+     * @param locator локатор элемента
+     * @param action действие
+     * @return результат действия
+     * @throws org.openqa.selenium.TimeoutException если элемент так и не появился
+     */
+    public <T> T whenPresent(By locator, Function<WebElement, T> action) {
+        return apply(locator, Lookup.PRESENT, action);
+    }
+
+    /**
+     * Возвращает все элементы по локатору, при промахе дожидаясь появления хотя бы одного.
+     * Подходит для наборов, которые не меняются, пока открыта страница.
+     * @param locator локатор элементов
+     * @return найденные элементы
+     */
+    public List<WebElement> all(By locator) {
+        List<WebElement> found = ENABLED ? lists.get(locator) : null;
+        if (found != null) {
+            stats.hit();
+            return found;
+        }
+        stats.miss();
+        found = wait.until(ExpectedConditions.presenceOfAllElementsLocatedBy(locator));
+        if (ENABLED) {
+            lists.put(locator, found);
+        }
+        return found;
+    }
+
+    /**
+     * Сбрасывает кэш после перехода на другую страницу или замены ее содержимого.
+     */
+    public void invalidate() {
+        if (!elements.isEmpty() || !lists.isEmpty()) {
+            stats.invalidated();
+        }
+        elements.clear();
+        lists.clear();
+    }
+
+    /**
+     * Выполняет действие и при устаревшем элементе повторяет его один раз после сброса кэша:
+     * устаревший элемент означает, что страница перерисована и остальные элементы тоже неактуальны.
+     * Действие может само бросить StaleElementReferenceException, если обнаружило, что элемент отсоединен.
+     */
+    private <T> T apply(By locator, Lookup mode, Function<WebElement, T> action) {
+        try {
+            return action.apply(lookup(locator, mode));
+        } catch (StaleElementReferenceException e) {
+            stats.stale();
+            invalidate();
+            return action.apply(lookup(locator, mode));
+        }
+    }
+
+    private WebElement lookup(By locator, Lookup mode) {
+        WebElement element = ENABLED ? elements.get(locator) : null;
+        if (element != null) {
+            stats.hit();
+            return element;
+        }
+        stats.miss();
+        switch (mode) {
+            case VISIBLE:
+                element = wait.until(ExpectedConditions.visibilityOfElementLocated(locator));
+                break;
+            case PRESENT:
+                element = wait.until(ExpectedConditions.presenceOfElementLocated(locator));
+                break;
+            case FIND:
+            default:
+                element = driver.findElement(locator);
+                break;
+        }
+        remember(locator, element);
+        return element;
+    }
+
+    private void remember(By locator, WebElement element) {
+        if (ENABLED) {
+            elements.put(locator, element);
+        }
+    }
+
+    /**
+     * Выводит попадания и промахи кэша по классам Page Object.
+     */
+    private static void printReport() {
+        Map<String, CacheStats> used = new TreeMap<>(STATS);
+        used.values().removeIf(stats -> stats.lookups() == 0);
+        if (used.isEmpty()) {
+            return;
+        }
+        System.out.println("Element cache by page object" + (ENABLED ? ":" : " (disabled):"));
+        used.forEach((owner, stats) -> System.out.println("  " + owner + ": " + stats));
+    }
+
+    /**
+     * Способ поиска элемента при промахе: без ожидания, с ожиданием появления в DOM или видимости.
+     */
+    private enum Lookup {
+        FIND, PRESENT, VISIBLE
+    }
+
+    /**
+     * Попадания, промахи, устаревшие элементы и сбросы кэша одного класса Page Object.
+     */
+    private static class CacheStats {
+        private long hits;
+        private long misses;
+        private long stale;
+        private long invalidations;
+
+        synchronized void hit() {
+            hits++;
+        }
+
+        synchronized void miss() {
+            misses++;
+        }
+
+        synchronized void stale() {
+            stale++;
+        }
+
+        synchronized void invalidated() {
+            invalidations++;
+        }
+
+        synchronized long lookups() {
+            return hits + misses;
+        }
+
+        @Override
+        public synchronized String toString() {
+            return String.format("lookups=%d, hits=%d (%.0f%%), misses=%d, stale=%d, invalidations=%d",
+                    hits + misses, hits, hits * 100.0 / (hits + misses), misses, stale, invalidations);
+        }
+    }
+}
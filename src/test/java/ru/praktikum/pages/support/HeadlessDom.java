@@ -0,0 +1,16 @@
+package ru.praktikum.pages.support;
+
+/**
+ * Браузер без отрисовки, например HtmlUnit: DOM и скрипты есть, а раскладки и кадров нет.
+ * Для него {@link Interactions} не проверяет положение и перекрытие элемента,
+ * а {@link CookieConsent} записывает куку без открытия страницы приложения.
+ */
+public interface HeadlessDom {
+    /**
+     * Записывает куку для домена указанного адреса с путем "/".
+     * @param url адрес страницы домена
+     * @param name имя куки
+     * @param value значение куки
+     */
+    void addCookie(String url, String name, String value);
+}
@@ -0,0 +1,195 @@
+package ru.praktikum.pages.support;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.ElementClickInterceptedException;
+import org.openqa.selenium.ElementNotInteractableException;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Общий помощник взаимодействия с элементами для всех Page Object.
+ * Перед кликом одним асинхронным скриптом мгновенно прокручивает элемент в центр экрана
+ * и проверяет, что он не двигается между двумя кадрами, видим и не перекрыт другим элементом.
+ * Перехваченный клик, устаревший элемент или непрошедшая проверка приводят к повтору
+ * с повторным поиском элемента, пока не исчерпан бюджет времени на клик.
+ * Повторы считаются по локаторам и выводятся в конце прогона, чтобы находить нестабильные локаторы.
+ * Настройки: "click.budget.ms" (бюджет на один клик, по умолчанию 5000),
+ * "click.retry.ms" (пауза между попытками, по умолчанию 100).
+ */
+public final class Interactions {
+    private static final long BUDGET_MILLIS = Long.getLong("click.budget.ms", 5000);
+    private static final long RETRY_PAUSE_MILLIS = Long.getLong("click.retry.ms", 100);
+    private static final String READY = "ok";
+
+    // Прокрутка без анимации и проверка готовности элемента к клику.
+    // Положение сравнивается через два кадра отрисовки: так отсеиваются анимации и перестроения.
+    // Возвращает "ok" или причину, по которой кликать пока нельзя.
+    private static final String ACTIONABILITY_SCRIPT =
+            "var el = arguments[0], done = arguments[arguments.length - 1];"
+            + "if (!el.isConnected) { done('detached'); return; }"
+            + "el.scrollIntoView({block: 'center', inline: 'center', behavior: 'instant'});"
+            + "var before = el.getBoundingClientRect();"
+            + "requestAnimationFrame(function () { requestAnimationFrame(function () {"
+            + "  var rect = el.getBoundingClientRect();"
+            + "  if (rect.top !== before.top || rect.left !== before.left"
+            + "      || rect.width !== before.width || rect.height !== before.height) { done('moving'); return; }"
+            + "  var style = window.getComputedStyle(el);"
+            + "  if (rect.width === 0 || rect.height === 0 || style.visibility === 'hidden') { done('hidden'); return; }"
+            + "  var top = document.elementFromPoint(rect.left + rect.width / 2, rect.top + rect.height / 2);"
+            + "  if (top === el || el.contains(top)) { done('ok'); return; }"
+            + "  done('obscured by ' + (top ? top.tagName.toLowerCase()"
+            + "      + (typeof top.className === 'string' && top.className ? '.' + top.className.split(' ')[0] : '')"
+            + "      : 'nothing'));"
+            + "}); });";
+
+    // Статистика кликов по локаторам за весь прогон
+    private static final Map<String, LocatorStats> STATS = new ConcurrentHashMap<>();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(Interactions::printReport, "interaction-retries"));
+    }
+
+    private final WebDriver driver;
+    private final ElementCache cache;
+
+    /**
+     * Конструктор помощника.
+     * @param driver экземпляр WebDriver
+     * @param cache кэш элементов Page Object, через который ищется элемент
+     */
+    public Interactions(WebDriver driver, ElementCache cache) {
+        this.driver = driver;
+        this.cache = cache;
+    }
+
+    /**
+     * Прокручивает к элементу и кликает по нему, когда он готов к клику.
+     * Элемент берется из кэша страницы; устаревший или отсоединенный элемент сбрасывает кэш
+     * и ищется заново, см. {@link ElementCache}.
+     * @param locator локатор элемента
+     * @throws WebDriverException если элемент так и не стал доступен для клика за отведенный бюджет
+     */
+    public void click(By locator) {
+        LocatorStats stats = STATS.computeIfAbsent(locator.toString(), key -> new LocatorStats());
+        stats.clicked();
+        long deadline = System.nanoTime() + BUDGET_MILLIS * 1_000_000;
+        String reason;
+        while (true) {
+            try {
+                reason = cache.whenPresent(locator, element -> {
+                    String state = checkActionability(element);
+                    if ("detached".equals(state)) {
+                        throw new StaleElementReferenceException("Element " + locator + " is detached from the page");
+                    }
+                    if (READY.equals(state)) {
+                        element.click();
+                    }
+                    return state;
+                });
+                if (READY.equals(reason)) {
+                    return;
+                }
+            } catch (ElementClickInterceptedException e) {
+                reason = "intercepted";
+            } catch (StaleElementReferenceException e) {
+                reason = "stale";
+            } catch (ElementNotInteractableException e) {
+                reason = "not interactable";
+            }
+            if (System.nanoTime() > deadline) {
+                break;
+            }
+            stats.retried(reason);
+            pause();
+        }
+        stats.failed();
+        throw new WebDriverException(String.format("Element %s is not clickable after %d ms: %s",
+                locator, BUDGET_MILLIS, reason));
+    }
+
+    /**
+     * Мгновенно прокручивает страницу так, чтобы элемент оказался в центре экрана.
+     * @param locator локатор элемента
+     * @return найденный элемент
+     */
+    public WebElement scrollTo(By locator) {
+        return cache.whenPresent(locator, element -> {
+            ((JavascriptExecutor) driver).executeScript(
+                    "arguments[0].scrollIntoView({block: 'center', inline: 'center', behavior: 'instant'});", element);
+            return element;
+        });
+    }
+
+    private String checkActionability(WebElement element) {
+        if (driver instanceof HeadlessDom) {
+            // Без раскладки положение и перекрытие не вычисляются, проверяется только видимость
+            return element.isDisplayed() ? READY : "hidden";
+        }
+        Object result = ((JavascriptExecutor) driver).executeAsyncScript(ACTIONABILITY_SCRIPT, element);
+        return String.valueOf(result);
+    }
+
+    private static void pause() {
+        try {
+            Thread.sleep(RETRY_PAUSE_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new WebDriverException("Interrupted while retrying a click", e);
+        }
+    }
+
+    /**
+     * Выводит локаторы, клики по которым потребовали повторов.
+     */
+    private static void printReport() {
+        Map<String, LocatorStats> flaky = new TreeMap<>();
+        STATS.forEach((locator, stats) -> {
+            if (stats.hasRetries()) {
+                flaky.put(locator, stats);
+            }
+        });
+        if (flaky.isEmpty()) {
+            return;
+        }
+        System.out.println("Interaction retries by locator:");
+        flaky.forEach((locator, stats) -> System.out.println("  " + locator + ": " + stats));
+    }
+
+    /**
+     * Количество кликов, повторов и их причин для одного локатора.
+     */
+    private static class LocatorStats {
+        private long clicks;
+        private long retries;
+        private long failures;
+        private final Map<String, Long> reasons = new TreeMap<>();
+
+        synchronized void clicked() {
+            clicks++;
+        }
+
+        synchronized void retried(String reason) {
+            retries++;
+            reasons.merge(reason, 1L, Long::sum);
+        }
+
+        synchronized void failed() {
+            failures++;
+        }
+
+        synchronized boolean hasRetries() {
+            return retries > 0 || failures > 0;
+        }
+
+        @Override
+        public synchronized String toString() {
+            return String.format("clicks=%d, retries=%d, failed=%d, reasons=%s", clicks, retries, failures, reasons);
+        }
+    }
+}
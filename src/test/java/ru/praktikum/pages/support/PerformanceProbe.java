@@ -0,0 +1,315 @@
+package ru.praktikum.pages.support;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.chromium.HasCdp;
+import org.openqa.selenium.json.Json;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Сбор клиентских метрик производительности во время функциональных тестов.
+ * Через Performance API браузера снимает Navigation Timing, Resource Timing, отрисовку
+ * (first-paint, first-contentful-paint) и длинные задачи при загрузке страниц и на шагах сценария
+ * (переход между шагами формы заказа, появление окна успешного заказа, поиск заказа).
+ * Метрики сравниваются с бюджетами из свойств "perf.budget.&lt;метрика&gt;" (миллисекунды или байты),
+ * например perf.budget.fcp=1800 или perf.budget.successModal=2000, и превышение бюджета
+ * проваливает тест в конце его выполнения. Результаты всех тестов записываются в target/perf-report.json.
+ * Сбор включается свойством "perf=true" или заданием хотя бы одного бюджета.
+ */
+public final class PerformanceProbe {
+    private static final String BUDGET_PREFIX = "perf.budget.";
+    private static final Path REPORT_FILE = Paths.get("target", "perf-report.json");
+    private static final Map<String, Long> BUDGETS = readBudgets();
+    private static final boolean ENABLED = Boolean.getBoolean("perf") || !BUDGETS.isEmpty();
+
+    // Подписка на длинные задачи. Через DevTools она добавляется до скриптов страницы,
+    // иначе устанавливается при первом замере и видит только последующие задачи.
+    private static final String LONG_TASK_OBSERVER =
+            "if (!window.__perfLongTasks) {"
+            + "  window.__perfLongTasks = [];"
+            + "  try {"
+            + "    new PerformanceObserver(function (list) {"
+            + "      list.getEntries().forEach(function (e) {"
+            + "        window.__perfLongTasks.push({start: e.startTime, duration: e.duration});"
+            + "      });"
+            + "    }).observe({type: 'longtask', buffered: true});"
+            + "  } catch (e) { }"
+            + "}";
+
+    // Метрики загрузки текущей страницы, время в мс от начала навигации
+    private static final String LOAD_SCRIPT = LONG_TASK_OBSERVER
+            + "var nav = performance.getEntriesByType('navigation')[0];"
+            + "var metrics = {};"
+            + "if (nav) {"
+            + "  metrics.ttfb = nav.responseStart - nav.startTime;"
+            + "  metrics.domContentLoaded = nav.domContentLoadedEventEnd - nav.startTime;"
+            + "  if (nav.loadEventEnd > 0) { metrics.load = nav.loadEventEnd - nav.startTime; }"
+            + "}"
+            + "performance.getEntriesByType('paint').forEach(function (p) {"
+            + "  if (p.name === 'first-paint') { metrics.fp = p.startTime; }"
+            + "  if (p.name === 'first-contentful-paint') { metrics.fcp = p.startTime; }"
+            + "});"
+            + "return metrics;";
+
+    // Ресурсы и длинные задачи начиная с отметки arguments[0] (performance.now() в начале шага)
+    private static final String ACTIVITY_SCRIPT = LONG_TASK_OBSERVER
+            + "var since = arguments[0];"
+            + "var metrics = {resources: 0, transferBytes: 0, longTasks: 0, longTasksMs: 0};"
+            + "performance.getEntriesByType('resource').forEach(function (r) {"
+            + "  if (r.startTime >= since) { metrics.resources++; metrics.transferBytes += r.transferSize || 0; }"
+            + "});"
+            + "window.__perfLongTasks.forEach(function (t) {"
+            + "  if (t.start >= since) { metrics.longTasks++; metrics.longTasksMs += t.duration; }"
+            + "});"
+            + "metrics.now = performance.now();"
+            + "return metrics;";
+
+    // Начало шага: отметка performance.now() и наблюдатель, который запоминает момент появления
+    // результата шага (arguments[1], XPath если начинается с "/", иначе CSS-селектор).
+    // Элемент, который уже был на странице, результатом не считается: результат поиска, например,
+    // заменяет предыдущий. Для шага от начала навигации (arguments[2]) уже отрисованный результат
+    // считается появившимся в момент вызова, точнее после загрузки страницы определить нельзя.
+    private static final String STEP_SCRIPT = LONG_TASK_OBSERVER
+            + "var selector = arguments[1], atNavigation = arguments[2];"
+            + "function find() {"
+            + "  return selector.charAt(0) === '/'"
+            + "      ? document.evaluate(selector, document, null, XPathResult.FIRST_ORDERED_NODE_TYPE, null)"
+            + "          .singleNodeValue"
+            + "      : document.querySelector(selector);"
+            + "}"
+            + "window.__perfSteps = window.__perfSteps || {};"
+            + "var previous = window.__perfSteps[arguments[0]];"
+            + "if (previous && previous.observer) { previous.observer.disconnect(); }"
+            + "var step = {mark: atNavigation ? 0 : performance.now(), appeared: null};"
+            + "window.__perfSteps[arguments[0]] = step;"
+            + "var initial = find();"
+            + "if (initial && atNavigation) { step.appeared = performance.now(); return step.mark; }"
+            + "step.observer = new MutationObserver(function () {"
+            + "  var element = find();"
+            + "  if (element && element !== initial) {"
+            + "    step.appeared = performance.now();"
+            + "    step.observer.disconnect();"
+            + "  }"
+            + "});"
+            + "step.observer.observe(document.documentElement, {childList: true, subtree: true, characterData: true});"
+            + "return step.mark;";
+
+    // Момент появления результата шага arguments[0] или null, если наблюдатель его не застал
+    // (например, шаг завершился на другой странице)
+    private static final String APPEARED_SCRIPT =
+            "var step = window.__perfSteps && window.__perfSteps[arguments[0]];"
+            + "if (!step) { return null; }"
+            + "if (step.observer) { step.observer.disconnect(); }"
+            + "delete window.__perfSteps[arguments[0]];"
+            + "return step.appeared;";
+
+    private static final ThreadLocal<List<Map<String, Object>>> CAPTURES = ThreadLocal.withInitial(ArrayList::new);
+    private static final Map<String, Object> REPORT = new LinkedHashMap<>();
+
+    static {
+        if (ENABLED) {
+            Runtime.getRuntime().addShutdownHook(new Thread(PerformanceProbe::writeReport, "perf-report"));
+        }
+    }
+
+    private PerformanceProbe() {
+    }
+
+    /**
+     * Подписывает новую сессию на длинные задачи до загрузки любых страниц (только Chrome).
+     * @param driver только что запущенный драйвер
+     */
+    public static void install(WebDriver driver) {
+        if (ENABLED && driver instanceof HasCdp) {
+            try {
+                ((HasCdp) driver).executeCdpCommand("Page.addScriptToEvaluateOnNewDocument",
+                        Map.of("source", LONG_TASK_OBSERVER));
+            } catch (WebDriverException e) {
+                System.out.println("Failed to install long task observer: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Снимает метрики загрузки текущей страницы: навигацию, отрисовку,
+     * ресурсы и длинные задачи с начала навигации.
+     * @param driver экземпляр WebDriver
+     * @param page имя страницы в отчете
+     */
+    public static void captureLoad(WebDriver driver, String page) {
+        if (!ENABLED) {
+            return;
+        }
+        try {
+            Map<String, Object> metrics = new LinkedHashMap<>(
+                    toMetrics(((JavascriptExecutor) driver).executeScript(LOAD_SCRIPT)));
+            Map<String, Object> activity = toMetrics(((JavascriptExecutor) driver).executeScript(ACTIVITY_SCRIPT, 0));
+            activity.remove("now");
+            metrics.putAll(activity);
+            record(page + ".load", metrics);
+        } catch (WebDriverException e) {
+            System.out.println("Failed to capture page performance: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Начинает замер шага сценария от текущего момента.
+     * Момент появления результата фиксирует сама страница, поэтому в длительность шага
+     * не входит опрос, которым тест дожидается результата.
+     * @param driver экземпляр WebDriver
+     * @param name имя шага, оно же имя метрики длительности для бюджета
+     * @param result результат шага: XPath (начинается с "/") или CSS-селектор
+     * @return шаг, который нужно завершить после появления результата
+     */
+    public static Step startStep(WebDriver driver, String name, String result) {
+        return start(driver, name, result, false);
+    }
+
+    /**
+     * Начинает замер шага сценария от начала навигации текущей страницы,
+     * например поиска заказа, открытого прямой ссылкой.
+     * @param driver экземпляр WebDriver
+     * @param name имя шага, оно же имя метрики длительности для бюджета
+     * @param result результат шага: XPath (начинается с "/") или CSS-селектор
+     * @return шаг, который нужно завершить после появления результата
+     */
+    public static Step startStepAtNavigation(WebDriver driver, String name, String result) {
+        return start(driver, name, result, true);
+    }
+
+    /**
+     * Завершает тест: сохраняет его замеры в отчет и проверяет бюджеты.
+     * @param testName имя теста
+     * @return описания превышенных бюджетов, пустой список если бюджеты соблюдены
+     */
+    public static List<String> finishTest(String testName) {
+        List<Map<String, Object>> captures = CAPTURES.get();
+        List<String> violations = new ArrayList<>();
+        if (!ENABLED || captures.isEmpty()) {
+            captures.clear();
+            return violations;
+        }
+        for (Map<String, Object> capture : captures) {
+            Map<?, ?> metrics = (Map<?, ?>) capture.get("metrics");
+            BUDGETS.forEach((metric, budget) -> {
+                Object value = metrics.get(metric);
+                if (value instanceof Number && ((Number) value).doubleValue() > budget) {
+                    violations.add(String.format("%s: %s=%d exceeds budget %d",
+                            capture.get("name"), metric, Math.round(((Number) value).doubleValue()), budget));
+                }
+            });
+        }
+        synchronized (REPORT) {
+            REPORT.put(testName, new ArrayList<>(captures));
+        }
+        captures.clear();
+        return violations;
+    }
+
+    private static Step start(WebDriver driver, String name, String result, boolean atNavigation) {
+        if (!ENABLED) {
+            return Step.NONE;
+        }
+        try {
+            Object mark = ((JavascriptExecutor) driver).executeScript(STEP_SCRIPT, name, result, atNavigation);
+            return new Step(driver, name, ((Number) mark).doubleValue());
+        } catch (WebDriverException e) {
+            System.out.println("Failed to start performance step: " + e.getMessage());
+            return Step.NONE;
+        }
+    }
+
+    private static void record(String name, Map<String, Object> metrics) {
+        Map<String, Object> capture = new LinkedHashMap<>();
+        capture.put("name", name);
+        capture.put("metrics", metrics);
+        CAPTURES.get().add(capture);
+    }
+
+    private static Map<String, Object> toMetrics(Object raw) {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        if (raw instanceof Map) {
+            ((Map<?, ?>) raw).forEach((key, value) -> metrics.put(String.valueOf(key),
+                    value instanceof Number ? Math.round(((Number) value).doubleValue()) : value));
+        }
+        return metrics;
+    }
+
+    private static Map<String, Long> readBudgets() {
+        Map<String, Long> budgets = new LinkedHashMap<>();
+        System.getProperties().stringPropertyNames().stream()
+                .filter(key -> key.startsWith(BUDGET_PREFIX))
+                .sorted()
+                .forEach(key -> {
+                    try {
+                        budgets.put(key.substring(BUDGET_PREFIX.length()), Long.parseLong(System.getProperty(key).trim()));
+                    } catch (NumberFormatException e) {
+                        throw new IllegalArgumentException("Performance budget must be a number: " + key, e);
+                    }
+                });
+        return budgets;
+    }
+
+    private static void writeReport() {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("budgets", BUDGETS);
+        synchronized (REPORT) {
+            report.put("tests", REPORT);
+        }
+        try {
+            Files.createDirectories(REPORT_FILE.getParent());
+            Files.write(REPORT_FILE, new Json().toJson(report).getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            System.out.println("Failed to write performance report: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Замер шага сценария: длительность от отметки до появления результата,
+     * а также ресурсы и длинные задачи за это время. Если страница не зафиксировала
+     * появление результата, длительность считается до завершения шага.
+     */
+    public static final class Step {
+        private static final Step NONE = new Step(null, null, 0);
+
+        private final WebDriver driver;
+        private final String name;
+        private final double mark;
+
+        private Step(WebDriver driver, String name, double mark) {
+            this.driver = driver;
+            this.name = name;
+            this.mark = mark;
+        }
+
+        /**
+         * Завершает шаг. Вызывается после того, как результат шага отобразился.
+         */
+        public void finish() {
+            if (driver == null) {
+                return;
+            }
+            try {
+                Object appeared = ((JavascriptExecutor) driver).executeScript(APPEARED_SCRIPT, name);
+                Map<String, Object> activity = toMetrics(((JavascriptExecutor) driver).executeScript(ACTIVITY_SCRIPT, mark));
+                Object now = activity.remove("now");
+                double end = ((Number) (appeared instanceof Number ? appeared : now)).doubleValue();
+                Map<String, Object> metrics = new LinkedHashMap<>();
+                metrics.put(name, Math.round(end - mark));
+                metrics.putAll(activity);
+                record(name, metrics);
+            } catch (WebDriverException e) {
+                System.out.println("Failed to finish performance step: " + e.getMessage());
+            }
+        }
+    }
+}
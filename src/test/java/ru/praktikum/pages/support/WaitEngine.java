@@ -0,0 +1,161 @@
+package ru.praktikum.pages.support;
+
+import org.openqa.selenium.NotFoundException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.Wait;
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * Общий механизм явных ожиданий для всех Page Object.
+ * Экземпляр привязан к потоку и хранит таймаут одного ожидания и общий бюджет
+ * времени на ожидания в рамках теста. Опрос условия начинается с короткого
+ * интервала и постепенно замедляется. Неявные ожидания драйвера не используются.
+ * Настройки: "wait.timeout" (секунды, по умолчанию 15), "wait.budget" (секунды на тест,
+ * по умолчанию 180), "wait.poll.ms" (начальный интервал опроса, по умолчанию 50),
+ * "wait.log" (вывод каждого ожидания в лог, по умолчанию false).
+ */
+public final class WaitEngine {
+    private static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(Long.getLong("wait.timeout", 15));
+    private static final Duration TEST_BUDGET = Duration.ofSeconds(Long.getLong("wait.budget", 180));
+    private static final long INITIAL_POLL_MILLIS = Long.getLong("wait.poll.ms", 50);
+    private static final long MAX_POLL_MILLIS = 500;
+    private static final double POLL_BACKOFF = 1.5;
+    private static final boolean LOG_WAITS = Boolean.getBoolean("wait.log");
+    private static final ThreadLocal<WaitEngine> CURRENT = ThreadLocal.withInitial(WaitEngine::new);
+
+    private Duration timeout = DEFAULT_TIMEOUT;
+    // Момент исчерпания бюджета теста, 0 - бюджет не ограничен
+    private long deadlineNanos;
+    private int waits;
+    private long waitedNanos;
+    private long longestNanos;
+
+    private WaitEngine() {
+    }
+
+    /**
+     * Возвращает механизм ожиданий текущего потока.
+     * @return механизм ожиданий
+     */
+    public static WaitEngine current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Начинает новый тест: восстанавливает таймаут по умолчанию,
+     * сбрасывает статистику и отсчитывает бюджет времени на ожидания.
+     */
+    public void startTest() {
+        timeout = DEFAULT_TIMEOUT;
+        deadlineNanos = System.nanoTime() + TEST_BUDGET.toNanos();
+        waits = 0;
+        waitedNanos = 0;
+        longestNanos = 0;
+    }
+
+    /**
+     * Завершает тест: выводит сводку ожиданий и снимает ограничение бюджета.
+     * @param testName имя теста
+     */
+    public void finishTest(String testName) {
+        System.out.println(String.format(
+                "[wait] %s: %d waits, %d ms total, longest %d ms, budget used %d of %d s",
+                testName, waits, waitedNanos / 1_000_000, longestNanos / 1_000_000,
+                waitedNanos / 1_000_000_000, TEST_BUDGET.getSeconds()));
+        deadlineNanos = 0;
+    }
+
+    /**
+     * Устанавливает таймаут одного ожидания до конца текущего теста.
+     * @param timeout таймаут ожидания
+     * @throws IllegalArgumentException если таймаут не положительный
+     */
+    public void setTimeout(Duration timeout) {
+        if (timeout.isNegative() || timeout.isZero()) {
+            throw new IllegalArgumentException("Timeout must be positive");
+        }
+        this.timeout = timeout;
+    }
+
+    /**
+     * Возвращает ожидание, привязанное к драйверу, для использования в Page Object.
+     * @param driver экземпляр WebDriver
+     * @return ожидание, совместимое с ExpectedConditions
+     */
+    public Wait<WebDriver> on(WebDriver driver) {
+        return new Wait<WebDriver>() {
+            @Override
+            public <T> T until(Function<? super WebDriver, T> condition) {
+                return WaitEngine.this.until(driver, condition);
+            }
+        };
+    }
+
+    /**
+     * Ожидает, пока условие вернет значение, отличное от null и false.
+     * Время ожидания ограничено таймаутом и оставшимся бюджетом теста.
+     * @param driver экземпляр WebDriver
+     * @param condition условие ожидания
+     * @param <T> тип результата условия
+     * @return результат условия
+     * @throws TimeoutException если условие не выполнилось вовремя
+     */
+    public <T> T until(WebDriver driver, Function<? super WebDriver, T> condition) {
+        long start = System.nanoTime();
+        long limitNanos = timeout.toNanos();
+        if (deadlineNanos != 0) {
+            limitNanos = Math.min(limitNanos, deadlineNanos - start);
+            if (limitNanos <= 0) {
+                throw new TimeoutException("Wait budget of " + TEST_BUDGET.getSeconds()
+                        + " s is exhausted for this test, not waiting for " + condition);
+            }
+        }
+
+        long pollMillis = INITIAL_POLL_MILLIS;
+        RuntimeException lastError = null;
+        while (true) {
+            try {
+                T result = condition.apply(driver);
+                if (result != null && !Boolean.FALSE.equals(result)) {
+                    finish(condition, start, limitNanos, true);
+                    return result;
+                }
+            } catch (NotFoundException | StaleElementReferenceException e) {
+                lastError = e;
+            }
+
+            long remainingNanos = limitNanos - (System.nanoTime() - start);
+            if (remainingNanos <= 0) {
+                finish(condition, start, limitNanos, false);
+                throw new TimeoutException(String.format(
+                        "Expected condition failed: waiting for %s (tried for %d ms with backoff polling)",
+                        condition, limitNanos / 1_000_000), lastError);
+            }
+            sleep(Math.min(pollMillis, remainingNanos / 1_000_000 + 1));
+            pollMillis = Math.min(MAX_POLL_MILLIS, (long) (pollMillis * POLL_BACKOFF));
+        }
+    }
+
+    private void finish(Object condition, long start, long limitNanos, boolean success) {
+        long elapsed = System.nanoTime() - start;
+        waits++;
+        waitedNanos += elapsed;
+        longestNanos = Math.max(longestNanos, elapsed);
+        if (LOG_WAITS) {
+            System.out.println(String.format("[wait] %s %d of %d ms: %s",
+                    success ? "ok" : "timeout", elapsed / 1_000_000, limitNanos / 1_000_000, condition));
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TimeoutException("Interrupted while waiting", e);
+        }
+    }
+}
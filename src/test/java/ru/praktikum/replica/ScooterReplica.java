@@ -0,0 +1,196 @@
+package ru.praktikum.replica;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.openqa.selenium.json.Json;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Локальная копия qa-scooter.praktikum-services.ru на встроенном HTTP-сервере.
+ * Отдает одностраничное приложение из ресурсов "replica" (главная страница, форма заказа,
+ * страница статуса, FAQ) и реализует API заказов, которое это приложение вызывает.
+ * Сервер запускается один раз на JVM и останавливается при ее завершении.
+ * Для сокетов сервера включается TCP_NODELAY ("sun.net.httpserver.nodelay", если оно не задано явно):
+ * иначе алгоритм Нейгла вместе с отложенными ACK добавляет около 40 мс к каждому запросу
+ * по loopback, и замеры задержки против копии измеряют в основном ожидание сокета.
+ * Свойство читается один раз на JVM, поэтому должно быть задано до создания первого HttpServer.
+ */
+public final class ScooterReplica {
+    private static final String RESOURCE_ROOT = "/replica";
+    private static final List<String> REQUIRED_ORDER_FIELDS =
+            List.of("firstName", "lastName", "address", "metroStation", "phone");
+    private static final Map<String, String> CONTENT_TYPES = Map.of(
+            "html", "text/html; charset=UTF-8",
+            "js", "application/javascript; charset=UTF-8",
+            "css", "text/css; charset=UTF-8",
+            "svg", "image/svg+xml");
+    private static ScooterReplica instance;
+
+    static {
+        if (System.getProperty("sun.net.httpserver.nodelay") == null) {
+            System.setProperty("sun.net.httpserver.nodelay", "true");
+        }
+    }
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final Json json = new Json();
+    private final Map<Integer, Map<String, Object>> orders = new ConcurrentHashMap<>();
+    private final AtomicInteger trackSequence = new AtomicInteger(100_000);
+
+    private ScooterReplica(int port) throws IOException {
+        AtomicInteger threads = new AtomicInteger();
+        this.executor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "scooter-replica-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        server.setExecutor(executor);
+        server.createContext("/api/v1/orders", this::handleOrders);
+        server.createContext("/", this::handleStatic);
+        server.start();
+    }
+
+    /**
+     * Возвращает запущенный экземпляр сервера, запуская его при первом обращении.
+     * Порт задается системным свойством "replica.port" (по умолчанию выбирается свободный).
+     * @return экземпляр сервера
+     */
+    public static synchronized ScooterReplica getInstance() {
+        if (instance == null) {
+            try {
+                instance = new ScooterReplica(Integer.getInteger("replica.port", 0));
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to start scooter replica", e);
+            }
+            Runtime.getRuntime().addShutdownHook(new Thread(instance::stop, "scooter-replica-shutdown"));
+            System.out.println("Scooter replica started at " + instance.getBaseUrl());
+        }
+        return instance;
+    }
+
+    /**
+     * Возвращает адрес главной страницы копии.
+     * @return адрес вида http://127.0.0.1:порт/
+     */
+    public String getBaseUrl() {
+        InetSocketAddress address = server.getAddress();
+        return "http://" + address.getHostString() + ":" + address.getPort() + "/";
+    }
+
+    /**
+     * Останавливает сервер.
+     */
+    public void stop() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handleStatic(HttpExchange exchange) throws IOException {
+        String path = exchange.getRequestURI().getPath();
+        // Маршруты приложения ("/", "/order", "/track") обслуживает index.html
+        String resource = path.contains(".") ? path : "/index.html";
+        try (InputStream in = getClass().getResourceAsStream(RESOURCE_ROOT + resource)) {
+            if (in == null || resource.contains("..")) {
+                send(exchange, 404, "text/plain; charset=UTF-8", "Not found".getBytes(StandardCharsets.UTF_8));
+                return;
+            }
+            String extension = resource.substring(resource.lastIndexOf('.') + 1);
+            send(exchange, 200, CONTENT_TYPES.getOrDefault(extension, "application/octet-stream"), in.readAllBytes());
+        }
+    }
+
+    private void handleOrders(HttpExchange exchange) throws IOException {
+        String path = exchange.getRequestURI().getPath();
+        String method = exchange.getRequestMethod();
+        if ("POST".equals(method) && path.equals("/api/v1/orders")) {
+            createOrder(exchange);
+        } else if ("GET".equals(method) && path.equals("/api/v1/orders/track")) {
+            trackOrder(exchange);
+        } else {
+            sendJson(exchange, 404, Map.of("code", 404, "message", "Not found"));
+        }
+    }
+
+    private void createOrder(HttpExchange exchange) throws IOException {
+        String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+        Map<String, Object> order = new HashMap<>(json.toType(body, Json.MAP_TYPE));
+        List<String> missing = new ArrayList<>();
+        for (String field : REQUIRED_ORDER_FIELDS) {
+            Object value = order.get(field);
+            if (value == null || value.toString().trim().isEmpty()) {
+                missing.add(field);
+            }
+        }
+        if (!missing.isEmpty()) {
+            sendJson(exchange, 400, Map.of(
+                    "code", 400, "message", "Недостаточно данных для создания заказа", "errors", missing));
+            return;
+        }
+        int track = trackSequence.incrementAndGet();
+        order.put("track", track);
+        orders.put(track, order);
+        sendJson(exchange, 201, Map.of("track", track));
+    }
+
+    private void trackOrder(HttpExchange exchange) throws IOException {
+        String track = queryParameter(exchange, "t");
+        if (track == null || track.isEmpty()) {
+            sendJson(exchange, 400, Map.of("code", 400, "message", "Недостаточно данных для поиска"));
+            return;
+        }
+        Map<String, Object> order = null;
+        try {
+            order = orders.get(Integer.parseInt(track));
+        } catch (NumberFormatException e) {
+            // Нечисловой номер трактуется как несуществующий заказ
+        }
+        if (order == null) {
+            sendJson(exchange, 404, Map.of("code", 404, "message", "Заказ не найден"));
+        } else {
+            sendJson(exchange, 200, Map.of("order", order));
+        }
+    }
+
+    private String queryParameter(HttpExchange exchange, String name) {
+        String query = exchange.getRequestURI().getRawQuery();
+        if (query == null) {
+            return null;
+        }
+        for (String pair : query.split("&")) {
+            int separator = pair.indexOf('=');
+            if (separator > 0 && pair.substring(0, separator).equals(name)) {
+                return URLDecoder.decode(pair.substring(separator + 1), StandardCharsets.UTF_8);
+            }
+        }
+        return null;
+    }
+
+    private void sendJson(HttpExchange exchange, int status, Object body) throws IOException {
+        send(exchange, status, "application/json; charset=UTF-8", json.toJson(body).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void send(HttpExchange exchange, int status, String contentType, byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", contentType);
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+}
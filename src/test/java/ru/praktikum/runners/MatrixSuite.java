@@ -0,0 +1,364 @@
+package ru.praktikum.runners;
+
+import org.junit.runner.Description;
+import org.junit.runner.Runner;
+import org.junit.runner.notification.Failure;
+import org.junit.runner.notification.RunListener;
+import org.junit.runner.notification.RunNotifier;
+import org.junit.runners.Suite;
+import org.junit.runners.model.InitializationError;
+import org.junit.runners.model.RunnerBuilder;
+import org.junit.runners.model.RunnerScheduler;
+import org.openqa.selenium.json.Json;
+import ru.praktikum.TestContext;
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.UnaryOperator;
+
+/**
+ * Раннер набора тестов, выполняющий его сразу в нескольких браузерах.
+ * Браузеры задаются системным свойством "browsers" (например, chrome,firefox),
+ * по умолчанию используется один браузер из свойства "browser".
+ * Каждый браузер выполняет классы из {@link Suite.SuiteClasses} в своем потоке
+ * и со своим пулом сессий, размер которого ограничивает свойство "pool.size.&lt;браузер&gt;".
+ * Результаты и длительности тестов по браузерам выводятся в конце прогона
+ * и записываются в target/matrix-report.json. Остальные браузеры сравниваются с первым:
+ * ускорение по тестам, прошедшим в обоих, и тесты, результат которых различается
+ * (например, при browsers=chrome,htmlunit это показывает, что дает и чего стоит HtmlUnit).
+ */
+public class MatrixSuite extends Suite {
+    private static final Path REPORT_FILE = Paths.get("target", "matrix-report.json");
+
+    private final List<BrowserRunner> browserRunners;
+
+    /**
+     * Конструктор раннера, вызывается JUnit.
+     * @param klass класс набора с аннотацией {@link Suite.SuiteClasses}
+     * @param builder построитель раннеров тестовых классов
+     * @throws InitializationError если набор не описан или тестовые классы некорректны
+     */
+    public MatrixSuite(Class<?> klass, RunnerBuilder builder) throws InitializationError {
+        this(klass, createRunners(klass, builder));
+    }
+
+    private MatrixSuite(Class<?> klass, List<BrowserRunner> browserRunners) throws InitializationError {
+        super(klass, new ArrayList<Runner>(browserRunners));
+        this.browserRunners = browserRunners;
+        if (browserRunners.size() > 1) {
+            setScheduler(new BrowserScheduler(browserRunners.size()));
+        }
+    }
+
+    @Override
+    public void run(RunNotifier notifier) {
+        super.run(notifier);
+        report();
+    }
+
+    private static List<BrowserRunner> createRunners(Class<?> klass, RunnerBuilder builder)
+            throws InitializationError {
+        SuiteClasses annotation = klass.getAnnotation(SuiteClasses.class);
+        if (annotation == null) {
+            throw new InitializationError(
+                    String.format("class '%s' must have a SuiteClasses annotation", klass.getName()));
+        }
+        List<BrowserRunner> runners = new ArrayList<>();
+        for (String browser : System.getProperty("browsers", System.getProperty("browser", "chrome")).split(",")) {
+            if (!browser.trim().isEmpty()) {
+                runners.add(new BrowserRunner(browser.trim().toLowerCase(), builder, annotation.value()));
+            }
+        }
+        return runners;
+    }
+
+    /**
+     * Выводит сводку по браузерам и записывает отчет со временем каждого теста.
+     */
+    private void report() {
+        Map<String, Object> report = new LinkedHashMap<>();
+        System.out.println("Browser matrix results:");
+        for (BrowserRunner runner : browserRunners) {
+            BrowserStats stats = runner.stats;
+            System.out.println(String.format("  %-8s tests=%d, failed=%d, skipped=%d, wall=%d ms, test time=%d ms",
+                    runner.browser, stats.finished.get(), stats.failed.get(), stats.skipped.get(),
+                    stats.wallMillis, stats.totalTestMillis()));
+            report.put(runner.browser, stats.toMap());
+        }
+        if (browserRunners.size() > 1) {
+            report.put("comparison", compare());
+        }
+        try {
+            Files.createDirectories(REPORT_FILE.getParent());
+            Files.write(REPORT_FILE, new Json().toJson(report).getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            System.out.println("Failed to write browser matrix report: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Сравнивает каждый браузер с первым. Пропущенные хотя бы в одном браузере тесты не учитываются.
+     * @return карта "браузер - ускорение и различия в результатах"
+     */
+    private Map<String, Object> compare() {
+        BrowserRunner baseline = browserRunners.get(0);
+        Map<String, Object> comparison = new LinkedHashMap<>();
+        for (BrowserRunner runner : browserRunners.subList(1, browserRunners.size())) {
+            long baselineMillis = 0;
+            long browserMillis = 0;
+            int passedInBoth = 0;
+            List<String> differences = new ArrayList<>();
+            for (String test : new TreeMap<>(runner.stats.testMillis).keySet()) {
+                Long baselineTest = baseline.stats.testMillis.get(test);
+                if (baselineTest == null || baseline.stats.skippedTests.contains(test)
+                        || runner.stats.skippedTests.contains(test)) {
+                    continue;
+                }
+                boolean baselineFailed = baseline.stats.failedTests.contains(test);
+                boolean browserFailed = runner.stats.failedTests.contains(test);
+                if (baselineFailed != browserFailed) {
+                    differences.add(String.format("%s: %s %s, %s %s", test,
+                            baseline.browser, baselineFailed ? "failed" : "passed",
+                            runner.browser, browserFailed ? "failed" : "passed"));
+                } else if (!browserFailed) {
+                    passedInBoth++;
+                    baselineMillis += baselineTest;
+                    browserMillis += runner.stats.testMillis.get(test);
+                }
+            }
+            double speedup = browserMillis == 0 ? 0 : (double) baselineMillis / browserMillis;
+            System.out.println(String.format("  %s vs %s: speedup x%.1f on %d tests passed in both, "
+                            + "behavior differences=%d",
+                    runner.browser, baseline.browser, speedup, passedInBoth, differences.size()));
+            differences.forEach(difference -> System.out.println("    " + difference));
+
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("baseline", baseline.browser);
+            map.put("passedInBoth", passedInBoth);
+            map.put("baselineMs", baselineMillis);
+            map.put("testMs", browserMillis);
+            map.put("speedup", Math.round(speedup * 10) / 10.0);
+            map.put("differences", differences);
+            comparison.put(runner.browser, map);
+        }
+        return comparison;
+    }
+
+    /**
+     * Набор тестовых классов для одного браузера.
+     * Выбирает браузер для своего потока и собирает результаты через отдельный RunNotifier,
+     * пересылая события в общий. В общем дереве тесты называются с браузером,
+     * например "testOrder[firefox]", чтобы результаты браузеров не сливались в отчетах.
+     */
+    private static class BrowserRunner extends Suite {
+        private final String browser;
+        private final BrowserStats stats = new BrowserStats();
+        // Описания тестов этого браузера в общем дереве по исходным описаниям
+        private final Map<Description, Description> qualified = new ConcurrentHashMap<>();
+
+        BrowserRunner(String browser, RunnerBuilder builder, Class<?>[] classes) throws InitializationError {
+            super(builder, classes);
+            this.browser = browser;
+        }
+
+        @Override
+        protected String getName() {
+            return "[" + browser + "]";
+        }
+
+        @Override
+        public Description getDescription() {
+            return qualify(super.getDescription());
+        }
+
+        @Override
+        public void run(RunNotifier notifier) {
+            RunNotifier browserNotifier = new RunNotifier();
+            browserNotifier.addListener(new ForwardingListener(notifier, this::qualified));
+            browserNotifier.addListener(stats);
+            TestContext.useBrowser(browser);
+            long start = System.nanoTime();
+            try {
+                super.run(browserNotifier);
+            } finally {
+                stats.wallMillis = (System.nanoTime() - start) / 1_000_000;
+                TestContext.clearBrowser();
+            }
+        }
+
+        /**
+         * Копирует описание с браузером в именах тестов.
+         */
+        private Description qualify(Description description) {
+            Annotation[] annotations = description.getAnnotations().toArray(new Annotation[0]);
+            Description copy;
+            if (description.isTest()) {
+                String name = description.getMethodName() != null
+                        ? description.getMethodName() : description.getDisplayName();
+                copy = Description.createTestDescription(description.getClassName(),
+                        name + "[" + browser + "]", annotations);
+            } else {
+                copy = description.childlessCopy();
+                for (Description child : description.getChildren()) {
+                    copy.addChild(qualify(child));
+                }
+            }
+            qualified.put(description, copy);
+            return copy;
+        }
+
+        private Description qualified(Description description) {
+            Description copy = qualified.get(description);
+            return copy != null ? copy : qualify(description);
+        }
+    }
+
+    /**
+     * Пересылает события тестов одного браузера в общий RunNotifier
+     * с описаниями тестов, в которых указан браузер.
+     */
+    @RunListener.ThreadSafe
+    private static class ForwardingListener extends RunListener {
+        private final RunNotifier target;
+        private final UnaryOperator<Description> qualifier;
+
+        ForwardingListener(RunNotifier target, UnaryOperator<Description> qualifier) {
+            this.target = target;
+            this.qualifier = qualifier;
+        }
+
+        @Override
+        public void testStarted(Description description) {
+            target.fireTestStarted(qualifier.apply(description));
+        }
+
+        @Override
+        public void testFailure(Failure failure) {
+            target.fireTestFailure(qualify(failure));
+        }
+
+        @Override
+        public void testAssumptionFailure(Failure failure) {
+            target.fireTestAssumptionFailed(qualify(failure));
+        }
+
+        @Override
+        public void testIgnored(Description description) {
+            target.fireTestIgnored(qualifier.apply(description));
+        }
+
+        @Override
+        public void testFinished(Description description) {
+            target.fireTestFinished(qualifier.apply(description));
+        }
+
+        private Failure qualify(Failure failure) {
+            return new Failure(qualifier.apply(failure.getDescription()), failure.getException());
+        }
+    }
+
+    /**
+     * Результаты и длительности тестов одного браузера.
+     */
+    @RunListener.ThreadSafe
+    private static class BrowserStats extends RunListener {
+        private final AtomicInteger finished = new AtomicInteger();
+        private final AtomicInteger failed = new AtomicInteger();
+        private final AtomicInteger skipped = new AtomicInteger();
+        private final Set<String> failedTests = ConcurrentHashMap.newKeySet();
+        private final Set<String> skippedTests = ConcurrentHashMap.newKeySet();
+        private final Map<Description, Long> starts = new ConcurrentHashMap<>();
+        private final Map<String, Long> testMillis = new ConcurrentHashMap<>();
+        private volatile long wallMillis;
+
+        @Override
+        public void testStarted(Description description) {
+            starts.put(description, System.nanoTime());
+        }
+
+        @Override
+        public void testFailure(Failure failure) {
+            failed.incrementAndGet();
+            failedTests.add(failure.getDescription().getDisplayName());
+        }
+
+        @Override
+        public void testAssumptionFailure(Failure failure) {
+            skipped.incrementAndGet();
+            skippedTests.add(failure.getDescription().getDisplayName());
+        }
+
+        @Override
+        public void testIgnored(Description description) {
+            skipped.incrementAndGet();
+            skippedTests.add(description.getDisplayName());
+        }
+
+        @Override
+        public void testFinished(Description description) {
+            finished.incrementAndGet();
+            Long start = starts.remove(description);
+            if (start != null) {
+                testMillis.put(description.getDisplayName(), (System.nanoTime() - start) / 1_000_000);
+            }
+        }
+
+        long totalTestMillis() {
+            return testMillis.values().stream().mapToLong(Long::longValue).sum();
+        }
+
+        Map<String, Object> toMap() {
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("tests", finished.get());
+            map.put("failed", failed.get());
+            map.put("skipped", skipped.get());
+            map.put("wallMs", wallMillis);
+            map.put("testMs", totalTestMillis());
+            map.put("durationsMs", new TreeMap<>(testMillis));
+            return map;
+        }
+    }
+
+    /**
+     * Планировщик, запускающий каждый браузер в отдельном потоке.
+     */
+    private static class BrowserScheduler implements RunnerScheduler {
+        private final ExecutorService executor;
+
+        BrowserScheduler(int browsers) {
+            AtomicInteger counter = new AtomicInteger();
+            this.executor = Executors.newFixedThreadPool(browsers,
+                    runnable -> new Thread(runnable, "browser-matrix-" + counter.incrementAndGet()));
+        }
+
+        @Override
+        public void schedule(Runnable childStatement) {
+            executor.submit(childStatement);
+        }
+
+        @Override
+        public void finished() {
+            executor.shutdown();
+            try {
+                executor.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                executor.shutdownNow();
+            }
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package ru.praktikum.runners;
+
+import org.junit.runners.Parameterized;
+import org.junit.runners.model.RunnerScheduler;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Раннер Parameterized, выполняющий строки параметров параллельно.
+ * Количество потоков задается системным свойством "threads".
+ * При значении 1 (по умолчанию) строки выполняются последовательно,
+ * как в обычном Parameterized.
+ */
+public class ParallelParameterized extends Parameterized {
+
+    /**
+     * Конструктор раннера, вызывается JUnit.
+     * @param klass тестовый класс
+     * @throws Throwable если параметры теста не удалось построить
+     */
+    public ParallelParameterized(Class<?> klass) throws Throwable {
+        super(klass);
+        int threads = Integer.getInteger("threads", 1);
+        if (threads > 1) {
+            setScheduler(new ThreadPoolScheduler(klass.getSimpleName(), threads));
+        }
+    }
+
+    /**
+     * Планировщик, запускающий дочерние раннеры в пуле потоков
+     * и дожидающийся их завершения.
+     */
+    private static class ThreadPoolScheduler implements RunnerScheduler {
+        private final ExecutorService executor;
+
+        ThreadPoolScheduler(String name, int threads) {
+            AtomicInteger counter = new AtomicInteger();
+            this.executor = Executors.newFixedThreadPool(threads,
+                    runnable -> new Thread(runnable, name + "-row-" + counter.incrementAndGet()));
+        }
+
+        @Override
+        public void schedule(Runnable childStatement) {
+            executor.submit(childStatement);
+        }
+
+        @Override
+        public void finished() {
+            executor.shutdown();
+            try {
+                executor.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                executor.shutdownNow();
+            }
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package ru.praktikum.services.api;
+
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.json.JsonException;
+import ru.praktikum.core.OrderData;
+import ru.praktikum.core.OrderService;
+import ru.praktikum.core.OrderValidator;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * API-реализация сервиса заказов.
+ * Создает и проверяет заказы HTTP-запросами к API приложения без браузера.
+ * Все экземпляры используют общий HttpClient, поэтому соединения переиспользуются.
+ */
+public class ApiOrderService implements OrderService {
+    private static final HttpClient HTTP_CLIENT = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+    private static final List<String> RENTAL_PERIODS = Arrays.asList(
+            "сутки", "двое суток", "трое суток", "четверо суток", "пятеро суток", "шестеро суток", "семеро суток");
+    private static final DateTimeFormatter UI_DATE = DateTimeFormatter.ofPattern("dd.MM.yyyy");
+
+    private final String baseUrl;
+    private final Json json = new Json();
+    private Duration timeout = Duration.ofSeconds(15);
+    private Integer lastTrack;
+    private int validationErrorsCount;
+
+    /**
+     * Конструктор сервиса.
+     * @param baseUrl адрес приложения, например https://qa-scooter.praktikum-services.ru/
+     * @throws IllegalArgumentException если baseUrl равен null или пуст
+     */
+    public ApiOrderService(String baseUrl) {
+        if (baseUrl == null || baseUrl.trim().isEmpty()) {
+            throw new IllegalArgumentException("Base URL cannot be null or empty");
+        }
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl : baseUrl + "/";
+    }
+
+    @Override
+    public void setTimeout(int seconds) {
+        if (seconds <= 0) {
+            throw new IllegalArgumentException("Timeout must be positive");
+        }
+        this.timeout = Duration.ofSeconds(seconds);
+    }
+
+    /**
+     * Создает заказ через API. Параметр useTopButton не влияет на запрос
+     * и оставлен для совместимости с интерфейсом.
+     * @throws IllegalStateException если API подтвердило создание заказа, но не вернуло трек-номер
+     */
+    @Override
+    public boolean createOrder(OrderData data, boolean useTopButton) {
+        lastTrack = null;
+        List<String> errors = OrderValidator.validate(data);
+        validationErrorsCount = errors.size();
+        if (!errors.isEmpty()) {
+            return false;
+        }
+
+        HttpResponse<String> response = send(HttpRequest.newBuilder(uri("api/v1/orders"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json.toJson(toRequestBody(data)))));
+        Map<String, Object> body = parse(response.body());
+        if (response.statusCode() != 201) {
+            validationErrorsCount = countErrors(body);
+            return false;
+        }
+        Object track = body.get("track");
+        if (!(track instanceof Number)) {
+            throw new IllegalStateException("Order API response has no track number: " + response.body());
+        }
+        lastTrack = ((Number) track).intValue();
+        return isOrderConfirmed();
+    }
+
+    @Override
+    public boolean isOrderConfirmed() {
+        return lastTrack != null && track(String.valueOf(lastTrack)).statusCode() == 200;
+    }
+
+    @Override
+    public int getValidationErrorsCount() {
+        return validationErrorsCount;
+    }
+
+    @Override
+    public boolean checkInvalidOrderStatus(String orderId) {
+        if (orderId == null || orderId.trim().isEmpty()) {
+            throw new IllegalArgumentException("Order ID cannot be null or empty");
+        }
+        return track(orderId).statusCode() == 404;
+    }
+
+    /**
+     * Возвращает трек-номер последнего успешно созданного заказа.
+     * @return трек-номер или null, если заказ не создан
+     */
+    public Integer getLastTrack() {
+        return lastTrack;
+    }
+
+    private HttpResponse<String> track(String orderId) {
+        return send(HttpRequest.newBuilder(
+                uri("api/v1/orders/track?t=" + URLEncoder.encode(orderId.trim(), StandardCharsets.UTF_8))).GET());
+    }
+
+    private HttpResponse<String> send(HttpRequest.Builder request) {
+        try {
+            return HTTP_CLIENT.send(request.timeout(timeout).build(),
+                    HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Order API request failed: " + e.getMessage(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Order API request interrupted", e);
+        }
+    }
+
+    private URI uri(String path) {
+        return URI.create(baseUrl + path);
+    }
+
+    private Map<String, Object> toRequestBody(OrderData data) {
+        Map<String, Object> body = new HashMap<>();
+        body.put("firstName", data.name.trim());
+        body.put("lastName", data.surname.trim());
+        body.put("address", data.address.trim());
+        body.put("metroStation", data.metroStation.trim());
+        body.put("phone", data.phone.trim());
+        body.put("rentTime", RENTAL_PERIODS.indexOf(data.rentalPeriod) + 1);
+        body.put("deliveryDate", toIsoDate(data.deliveryDate));
+        body.put("comment", data.comment == null ? "" : data.comment);
+        body.put("color", data.color == null || data.color.isEmpty()
+                ? Collections.emptyList()
+                : Collections.singletonList(data.color.toUpperCase()));
+        return body;
+    }
+
+    private String toIsoDate(String date) {
+        try {
+            return LocalDate.parse(date, UI_DATE).toString();
+        } catch (DateTimeParseException | NullPointerException e) {
+            return date;
+        }
+    }
+
+    private Map<String, Object> parse(String body) {
+        try {
+            return json.toType(body, Json.MAP_TYPE);
+        } catch (JsonException e) {
+            return Collections.emptyMap();
+        }
+    }
+
+    private int countErrors(Map<String, Object> body) {
+        Object errors = body.get("errors");
+        return errors instanceof List ? ((List<?>) errors).size() : 1;
+    }
+}
@@ -2,6 +2,7 @@ package ru.praktikum.services.ui;
 
 import ru.praktikum.core.FaqService;
 import ru.praktikum.pages.HomePage;
+import java.util.Map;
 
 /**
  * UI-реализация сервиса для работы с FAQ.
@@ -30,6 +31,15 @@ public class UIFaqService implements FaqService {
         return homePage.getFaqAnswer(index);
     }
 
+    @Override
+    public Map<Integer, String> getAllAnswers() {
+        Map<Integer, String> answers = homePage.getAllFaqAnswers();
+        if (answers.isEmpty()) {
+            throw new IllegalStateException("FAQ questions not found on the page");
+        }
+        return answers;
+    }
+
     /**
      * Проверяет корректность индекса вопроса.
      * @param index проверяемый индекс
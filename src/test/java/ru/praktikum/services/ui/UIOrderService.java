@@ -2,10 +2,14 @@ package ru.praktikum.services.ui;
 
 import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebDriver;
+import ru.praktikum.TestEnvironment;
 import ru.praktikum.core.OrderData;
 import ru.praktikum.core.OrderService;
 import ru.praktikum.pages.HomePage;
 import ru.praktikum.pages.OrderPage;
+import ru.praktikum.pages.OrderStatusPage;
+import ru.praktikum.pages.support.WaitEngine;
+import java.time.Duration;
 
 /**
  * UI-реализация сервиса заказов.
@@ -14,25 +18,45 @@ import ru.praktikum.pages.OrderPage;
 public class UIOrderService implements OrderService {
     private final WebDriver driver;
     private final HomePage homePage;
+    private final String baseUrl;
+    // Форма последнего заказа: проверки результата используют ее кэш элементов
+    private OrderPage orderPage;
 
     /**
-     * Конструктор сервиса.
+     * Конструктор сервиса для стенда из текущего окружения.
      * @param driver экземпляр WebDriver
      * @param homePage экземпляр HomePage
      * @throws IllegalArgumentException если driver равен null
      */
     public UIOrderService(WebDriver driver, HomePage homePage) {
+        this(driver, homePage, TestEnvironment.baseUrl());
+    }
+
+    /**
+     * Конструктор сервиса.
+     * @param driver экземпляр WebDriver
+     * @param homePage экземпляр HomePage
+     * @param baseUrl адрес главной страницы приложения для прямых переходов
+     * @throws IllegalArgumentException если driver равен null
+     */
+    public UIOrderService(WebDriver driver, HomePage homePage, String baseUrl) {
         if (driver == null) {
             throw new IllegalArgumentException("WebDriver cannot be null");
         }
         this.driver = driver;
         this.homePage = homePage;
+        this.baseUrl = baseUrl;
     }
 
+    /**
+     * Устанавливает таймаут ожиданий всех Page Object до конца текущего теста.
+     */
     @Override
     public void setTimeout(int seconds) {
-        // Метод оставлен для совместимости с интерфейсом
-        // Таймауты управляться на уровне Page Objects
+        if (seconds <= 0) {
+            throw new IllegalArgumentException("Timeout must be positive");
+        }
+        WaitEngine.current().setTimeout(Duration.ofSeconds(seconds));
     }
 
     @Override
@@ -42,8 +66,22 @@ public class UIOrderService implements OrderService {
         }
 
         // Используем Page Objects для взаимодействия с UI
-        OrderPage orderPage = homePage.clickOrderButton(useTopButton);
+        return fillOrder(homePage.clickOrderButton(useTopButton), data);
+    }
 
+    /**
+     * Создает заказ, открывая форму заказа напрямую по адресу.
+     */
+    @Override
+    public boolean createOrder(OrderData data) {
+        if (data == null) {
+            throw new IllegalArgumentException("OrderData cannot be null");
+        }
+        return fillOrder(OrderPage.open(driver, baseUrl), data);
+    }
+
+    private boolean fillOrder(OrderPage orderPage, OrderData data) {
+        this.orderPage = orderPage;
         orderPage.fillFirstPage(
                 data.name,
                 data.surname,
@@ -59,35 +97,41 @@ public class UIOrderService implements OrderService {
                 data.comment
         );
 
-        return isOrderConfirmed();
+        // Окно успеха проверяется той же страницей, чтобы завершился ее замер перехода
+        return orderPage.isSuccessModalDisplayed();
     }
 
     @Override
     public boolean isOrderConfirmed() {
-        // Используем Page Object для проверки подтверждения заказа
-        return new OrderPage(driver).isSuccessModalDisplayed();
+        return currentOrderPage().isSuccessModalDisplayed();
     }
 
     @Override
     public int getValidationErrorsCount() {
         try {
-            // Используем Page Object для получения количества ошибок
-            return new OrderPage(driver).getValidationErrorsCount();
+            return currentOrderPage().getValidationErrorsCount();
         } catch (TimeoutException e) {
             return 0;
         }
     }
 
+    /**
+     * Возвращает форму последнего заказа или новую, если заказ еще не оформлялся.
+     */
+    private OrderPage currentOrderPage() {
+        if (orderPage == null) {
+            orderPage = new OrderPage(driver);
+        }
+        return orderPage;
+    }
+
     @Override
     public boolean checkInvalidOrderStatus(String orderId) {
         if (orderId == null || orderId.trim().isEmpty()) {
             throw new IllegalArgumentException("Order ID cannot be null or empty");
         }
 
-        // Используем Page Objects для проверки статуса заказа
-        return homePage
-                .clickOrderStatusButton()
-                .checkOrderStatus(orderId)
-                .isNotFoundDisplayed();
+        // Страница статуса открывается напрямую с номером заказа в адресе
+        return OrderStatusPage.open(driver, baseUrl, orderId).isNotFoundDisplayed();
     }
 }
\ No newline at end of file
@@ -0,0 +1,119 @@
+package ru.praktikum.sharding;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * История длительностей тестов.
+ * Хранится в текстовом файле строками вида "миллисекунды&lt;TAB&gt;идентификатор теста",
+ * отсортированными по идентификатору, чтобы изменения было удобно смотреть в диффе.
+ * Новое измерение сглаживается с накопленным значением, поэтому единичный медленный
+ * прогон не перекраивает шарды. Несколько JVM (форки surefire, узлы CI с общим каталогом)
+ * дописывают свои измерения под файловой блокировкой, не затирая друг друга.
+ */
+public class DurationHistory {
+    // Вес нового измерения при сглаживании
+    private static final double NEW_WEIGHT = 0.3;
+
+    private final Path file;
+    private final Map<String, Long> known;
+    private final Map<String, Long> measured = new ConcurrentHashMap<>();
+
+    /**
+     * Загружает историю из файла. Отсутствующий файл означает пустую историю.
+     * @param file файл истории
+     */
+    public DurationHistory(Path file) {
+        this.file = file;
+        this.known = Collections.unmodifiableMap(read(file));
+    }
+
+    /**
+     * Возвращает длительности, известные на момент запуска JVM.
+     * @return идентификатор теста -> длительность в миллисекундах
+     */
+    public Map<String, Long> getKnown() {
+        return known;
+    }
+
+    /**
+     * Возвращает длительности тестов, измеренные в этой JVM.
+     * @return идентификатор теста -> длительность в миллисекундах
+     */
+    public Map<String, Long> getMeasured() {
+        return Collections.unmodifiableMap(new TreeMap<>(measured));
+    }
+
+    /**
+     * Запоминает длительность теста.
+     * @param testId идентификатор теста
+     * @param millis длительность в миллисекундах
+     */
+    public void record(String testId, long millis) {
+        measured.put(testId, millis);
+    }
+
+    /**
+     * Объединяет измерения этой JVM с текущим содержимым файла и сохраняет результат.
+     * Файл перечитывается под блокировкой, так как его могли обновить другие JVM.
+     */
+    public void save() {
+        if (measured.isEmpty()) {
+            return;
+        }
+        Path lockFile = file.resolveSibling(file.getFileName() + ".lock");
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            try (FileChannel channel = FileChannel.open(lockFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+                 FileLock lock = channel.lock()) {
+                Map<String, Long> merged = read(file);
+                measured.forEach((testId, millis) -> merged.merge(testId, millis,
+                        (previous, current) -> Math.round(previous * (1 - NEW_WEIGHT) + current * NEW_WEIGHT)));
+
+                List<String> lines = new ArrayList<>();
+                merged.forEach((testId, millis) -> lines.add(millis + "\t" + testId));
+                Path temp = Files.createTempFile(file.toAbsolutePath().getParent(), "durations", ".tmp");
+                Files.write(temp, lines, StandardCharsets.UTF_8);
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            }
+        } catch (IOException e) {
+            System.out.println("Failed to save test duration history: " + e.getMessage());
+        }
+    }
+
+    private static Map<String, Long> read(Path file) {
+        Map<String, Long> durations = new TreeMap<>();
+        if (!Files.exists(file)) {
+            return durations;
+        }
+        try {
+            for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+                int tab = line.indexOf('\t');
+                if (tab > 0) {
+                    try {
+                        durations.put(line.substring(tab + 1), Long.parseLong(line.substring(0, tab)));
+                    } catch (NumberFormatException e) {
+                        System.out.println("Skipping malformed duration history line: " + line);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            System.out.println("Failed to read test duration history: " + e.getMessage());
+        }
+        return durations;
+    }
+}
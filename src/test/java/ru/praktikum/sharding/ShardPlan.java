@@ -0,0 +1,92 @@
+package ru.praktikum.sharding;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Распределение тестов по шардам с близкой суммарной длительностью.
+ * Тесты из истории раскладываются жадно от самого долгого к самому короткому,
+ * каждый в наименее загруженный шард (LPT). Тесты без истории распределяются
+ * по хешу идентификатора. Результат зависит только от истории и числа шардов,
+ * поэтому все узлы с одинаковым файлом истории получают одинаковый план.
+ */
+public class ShardPlan {
+    private final int shards;
+    private final Map<String, Integer> assignment = new HashMap<>();
+    private final long[] predictedMillis;
+    private final int[] testCounts;
+
+    /**
+     * Строит план.
+     * @param durations идентификатор теста -> длительность в миллисекундах
+     * @param shards количество шардов
+     * @throws IllegalArgumentException если количество шардов меньше 1
+     */
+    public ShardPlan(Map<String, Long> durations, int shards) {
+        if (shards < 1) {
+            throw new IllegalArgumentException("Shard count must be positive");
+        }
+        this.shards = shards;
+        this.predictedMillis = new long[shards];
+        this.testCounts = new int[shards];
+
+        List<Map.Entry<String, Long>> tests = new ArrayList<>(durations.entrySet());
+        tests.sort(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder())
+                .thenComparing(Map.Entry.comparingByKey()));
+        for (Map.Entry<String, Long> test : tests) {
+            int lightest = 0;
+            for (int shard = 1; shard < shards; shard++) {
+                if (predictedMillis[shard] < predictedMillis[lightest]) {
+                    lightest = shard;
+                }
+            }
+            assignment.put(test.getKey(), lightest);
+            predictedMillis[lightest] += test.getValue();
+            testCounts[lightest]++;
+        }
+    }
+
+    /**
+     * Определяет шард теста.
+     * @param testId идентификатор теста
+     * @return номер шарда, начиная с 0
+     */
+    public int shardOf(String testId) {
+        Integer shard = assignment.get(testId);
+        return shard != null ? shard : Math.floorMod(testId.hashCode(), shards);
+    }
+
+    /**
+     * Проверяет, есть ли тест в истории, по которой построен план.
+     * @param testId идентификатор теста
+     * @return true если длительность теста известна
+     */
+    public boolean isKnown(String testId) {
+        return assignment.containsKey(testId);
+    }
+
+    /**
+     * Возвращает предсказанную длительность шарда по тестам из истории.
+     * @param shard номер шарда, начиная с 0
+     * @return длительность в миллисекундах
+     */
+    public long getPredictedMillis(int shard) {
+        return predictedMillis[shard];
+    }
+
+    /**
+     * Возвращает количество тестов из истории, попавших в шард.
+     * @param shard номер шарда, начиная с 0
+     * @return количество тестов
+     */
+    public int getTestCount(int shard) {
+        return testCounts[shard];
+    }
+
+    public int getShards() {
+        return shards;
+    }
+}
@@ -0,0 +1,147 @@
+package ru.praktikum.sharding;
+
+import org.junit.AssumptionViolatedException;
+import org.junit.rules.TestRule;
+import org.junit.runner.Description;
+import org.junit.runners.model.Statement;
+import org.openqa.selenium.json.Json;
+import ru.praktikum.TestContext;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Правило JUnit для разбиения набора тестов на шарды по истории длительностей.
+ * Замеряет каждый тест (включая отдельные строки Parameterized) вместе с setUp и tearDown
+ * и сохраняет длительности в файл истории. При заданном "shard=i/N" (нумерация с 1)
+ * тесты чужих шардов пропускаются через Assume еще до запуска браузера,
+ * а в конце прогона выводится сравнение предсказанной и фактической длительности шарда.
+ * Настройки: "shard" - номер шарда и их количество, "shard.history" - файл истории
+ * (по умолчанию target/test-durations.tsv; в CI указывается файл в кэше между сборками).
+ * Длительность записывается и для упавших тестов, так как они обычно самые долгие.
+ * Тесты в браузере, отличном от "browser" (например, в матричном прогоне), учитываются отдельно:
+ * к имени теста добавляется браузер, например "OrderFlowTest.testOrder[firefox]".
+ */
+public class ShardRule implements TestRule {
+    private static final Path REPORT_FILE = Paths.get("target", "shard-report.json");
+    private static final String DEFAULT_BROWSER = System.getProperty("browser", "chrome").trim().toLowerCase();
+    private static final DurationHistory HISTORY = new DurationHistory(
+            Paths.get(System.getProperty("shard.history", "target/test-durations.tsv")));
+    // Номер текущего шарда с 0 и количество шардов, null - разбиение не задано
+    private static final int[] SHARD = parseShard(System.getProperty("shard", ""));
+    private static final ShardPlan PLAN = SHARD == null ? null : new ShardPlan(HISTORY.getKnown(), SHARD[1]);
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            HISTORY.save();
+            if (PLAN != null) {
+                report();
+            }
+        }, "shard-history"));
+    }
+
+    @Override
+    public Statement apply(Statement base, Description description) {
+        String className = description.getClassName();
+        String browser = TestContext.browser();
+        String testId = className.substring(className.lastIndexOf('.') + 1) + "." + description.getMethodName()
+                + (DEFAULT_BROWSER.equals(browser) ? "" : "[" + browser + "]");
+        return new Statement() {
+            @Override
+            public void evaluate() throws Throwable {
+                if (PLAN != null && PLAN.shardOf(testId) != SHARD[0]) {
+                    throw new AssumptionViolatedException(String.format("%s belongs to shard %d/%d",
+                            testId, PLAN.shardOf(testId) + 1, SHARD[1]));
+                }
+                long start = System.nanoTime();
+                boolean skipped = false;
+                try {
+                    base.evaluate();
+                } catch (AssumptionViolatedException e) {
+                    skipped = true;
+                    throw e;
+                } finally {
+                    if (!skipped) {
+                        HISTORY.record(testId, (System.nanoTime() - start) / 1_000_000);
+                    }
+                }
+            }
+        };
+    }
+
+    private static int[] parseShard(String value) {
+        if (value.trim().isEmpty()) {
+            return null;
+        }
+        String[] parts = value.trim().split("/");
+        try {
+            int index = Integer.parseInt(parts[0].trim());
+            int count = Integer.parseInt(parts[1].trim());
+            if (parts.length == 2 && count > 0 && index >= 1 && index <= count) {
+                return new int[] {index - 1, count};
+            }
+        } catch (NumberFormatException | ArrayIndexOutOfBoundsException e) {
+            // Сообщение об ошибке ниже
+        }
+        throw new IllegalArgumentException("Shard must be in the form i/N with 1 <= i <= N, got: " + value);
+    }
+
+    /**
+     * Выводит предсказанную длительность всех шардов и фактическую длительность текущего.
+     * Тесты без истории в предсказание не входят и показываются отдельно.
+     */
+    private static void report() {
+        Map<String, Long> measured = HISTORY.getMeasured();
+        long actualMillis = 0;
+        long predictedRunMillis = 0;
+        int newTests = 0;
+        Map<String, Object> tests = new LinkedHashMap<>();
+        for (Map.Entry<String, Long> test : measured.entrySet()) {
+            Long predicted = HISTORY.getKnown().get(test.getKey());
+            actualMillis += test.getValue();
+            if (predicted != null) {
+                predictedRunMillis += predicted;
+            } else {
+                newTests++;
+            }
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("predictedMs", predicted);
+            row.put("actualMs", test.getValue());
+            tests.put(test.getKey(), row);
+        }
+
+        System.out.println(String.format("[shard] plan for %d shards from %d tests with history:",
+                PLAN.getShards(), HISTORY.getKnown().size()));
+        List<Long> shards = new ArrayList<>();
+        for (int shard = 0; shard < PLAN.getShards(); shard++) {
+            System.out.println(String.format("[shard]   %d/%d: %d tests, predicted %.1f s%s",
+                    shard + 1, PLAN.getShards(), PLAN.getTestCount(shard), PLAN.getPredictedMillis(shard) / 1000.0,
+                    shard == SHARD[0] ? " <- this shard" : ""));
+            shards.add(PLAN.getPredictedMillis(shard));
+        }
+        System.out.println(String.format(
+                "[shard] this shard %d/%d: %d tests run, predicted %.1f s, actual %.1f s, %d tests without history",
+                SHARD[0] + 1, SHARD[1], measured.size(), predictedRunMillis / 1000.0, actualMillis / 1000.0, newTests));
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("shard", SHARD[0] + 1);
+        report.put("shards", SHARD[1]);
+        report.put("predictedMsByShard", shards);
+        report.put("predictedMs", predictedRunMillis);
+        report.put("actualMs", actualMillis);
+        report.put("testsWithoutHistory", newTests);
+        report.put("tests", tests);
+        try {
+            Files.createDirectories(REPORT_FILE.getParent());
+            Files.write(REPORT_FILE, new Json().toJson(report).getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            System.out.println("Failed to write shard report: " + e.getMessage());
+        }
+    }
+}
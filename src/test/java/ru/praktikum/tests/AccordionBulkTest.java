@@ -0,0 +1,36 @@
+package ru.praktikum.tests;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ErrorCollector;
+import ru.praktikum.BaseTest;
+import ru.praktikum.DomOnly;
+import java.util.Map;
+import static org.hamcrest.CoreMatchers.equalTo;
+
+/**
+ * Проверка всех ответов раздела "Вопросы о важном" за одну загрузку страницы.
+ * Ответы считываются одним вызовом FaqService.getAllAnswers(),
+ * а расхождение по каждому вопросу сообщается отдельно.
+ */
+@DomOnly
+public class AccordionBulkTest extends BaseTest {
+
+    @Rule
+    public ErrorCollector collector = new ErrorCollector();
+
+    /**
+     * Тест сверяет ответы на все вопросы с ожидаемыми текстами из AccordionTest.
+     */
+    @Test
+    public void testAllFaqAnswersText() {
+        Map<Integer, String> actualAnswers = faqService.getAllAnswers();
+
+        for (Object[] row : AccordionTest.getTestData()) {
+            int questionIndex = (int) row[0];
+            String expectedAnswer = (String) row[1];
+            collector.checkThat("Текст ответа на вопрос " + (questionIndex + 1) + " не совпадает",
+                    actualAnswers.get(questionIndex), equalTo(expectedAnswer));
+        }
+    }
+}
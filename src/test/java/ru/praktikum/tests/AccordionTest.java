@@ -4,6 +4,8 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.Parameterized;
 import ru.praktikum.BaseTest;
+import ru.praktikum.DomOnly;
+import ru.praktikum.runners.ParallelParameterized;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 
@@ -11,7 +13,8 @@ import static org.junit.Assert.assertNotNull;
  * Тесты для раздела "Вопросы о важном" (FAQ).
  * Проверяют корректность работы аккордеона с вопросами.
  */
-@RunWith(Parameterized.class)
+@DomOnly
+@RunWith(ParallelParameterized.class)
 public class AccordionTest extends BaseTest {
     private final int questionIndex;
     private final String expectedAnswer;
@@ -3,6 +3,8 @@ package ru.praktikum.tests;
 import org.junit.Test;
 import org.openqa.selenium.TimeoutException;
 import ru.praktikum.BaseTest;
+import ru.praktikum.DomOnly;
+import ru.praktikum.OrderServiceOnly;
 import ru.praktikum.core.OrderData;
 import static org.junit.Assert.*;
 
@@ -18,20 +20,22 @@ public class AdditionalTest extends BaseTest {
      * Тест проверяет отображение ошибок валидации при пустых полях формы.
      * Шаги:
      * 1. Создаем данные с пустыми полями
-     * 2. Пытаемся создать заказ через верхнюю кнопку
+     * 2. Пытаемся создать заказ, открыв форму заказа напрямую
      * 3. Проверяем количество ошибок валидации
      */
     @Test
+    @OrderServiceOnly
     public void testShowValidationErrorsForEmptyFields() {
-        // Увеличиваем таймаут для этого теста
-        orderService.setTimeout(30);
+        // Второй шаг формы не должен открыться, поэтому его ожидание заканчивается таймаутом:
+        // короткий таймаут ограничивает время этой заведомо неудачной проверки
+        orderService.setTimeout(5);
 
         // Создаем данные с пустыми полями
         OrderData emptyData = new OrderData("", "", "", null, "", "", "", "", "");
 
         try {
-            // Пытаемся создать заказ через верхнюю кнопку (true)
-            orderService.createOrder(emptyData, true);
+            // Пытаемся создать заказ, открыв форму напрямую (кнопки проверяет OrderFlowTest)
+            orderService.createOrder(emptyData);
         } catch (TimeoutException e) {
             System.out.println("Timeout occurred, but continuing with validation check");
         }
@@ -49,6 +53,7 @@ public class AdditionalTest extends BaseTest {
      * 2. Проверяем, что система сообщает "Не найдено"
      */
     @Test
+    @OrderServiceOnly
     public void testShowNotFoundForInvalidOrder() {
         boolean isNotFound = orderService.checkInvalidOrderStatus("000000");
         assertTrue("Для несуществующего заказа должно отображаться 'Не найдено'", isNotFound);
@@ -62,6 +67,7 @@ public class AdditionalTest extends BaseTest {
      * 3. Проверяем URL главной страницы
      */
     @Test
+    @DomOnly
     public void testReturnToMainPageWhenClickScooterLogo() {
         String currentUrl = homePage
                 .clickOrderStatusButton()
@@ -69,7 +75,7 @@ public class AdditionalTest extends BaseTest {
                 .getCurrentUrl();
 
         assertEquals("Должны быть на главной странице после клика на логотип Самоката",
-                "https://qa-scooter.praktikum-services.ru/", currentUrl);
+                BASE_URL, currentUrl);
     }
 
     /**
@@ -83,17 +89,21 @@ public class AdditionalTest extends BaseTest {
         String mainWindow = homePage.getCurrentWindowHandle();
         homePage.clickYandexLogo();
 
-        // Ждем появления нового окна
-        homePage.waitForNewWindow(2);
+        try {
+            // Ждем появления нового окна
+            homePage.waitForNewWindow(2);
 
-        // Переключаемся на новое окно
-        homePage.switchToNewWindow();
+            // Переключаемся на новое окно
+            homePage.switchToNewWindow();
 
-        // Проверяем, что переключились на другое окно
-        assertNotEquals("Должно открыться новое окно", mainWindow, homePage.getCurrentWindowHandle());
+            // Проверяем, что переключились на другое окно
+            assertNotEquals("Должно открыться новое окно", mainWindow, homePage.getCurrentWindowHandle());
 
-        // Закрываем новое окно и возвращаемся
-        homePage.closeCurrentWindow();
-        homePage.switchToWindow(mainWindow);
+            // Закрываем новое окно
+            homePage.closeCurrentWindow();
+        } finally {
+            // Всегда возвращаемся в главное окно, чтобы сессия из пула осталась в исходном состоянии
+            homePage.switchToWindow(mainWindow);
+        }
     }
 }
\ No newline at end of file
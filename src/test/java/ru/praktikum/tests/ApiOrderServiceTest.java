@@ -0,0 +1,148 @@
+package ru.praktikum.tests;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.Before;
+import org.junit.Test;
+import ru.praktikum.core.OrderData;
+import ru.praktikum.core.OrderValidator;
+import ru.praktikum.data.OrderDataSource;
+import ru.praktikum.replica.ScooterReplica;
+import ru.praktikum.services.api.ApiOrderService;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+import static org.junit.Assert.*;
+
+/**
+ * Тесты API-реализации сервиса заказов.
+ * Выполняются без браузера против локальной копии приложения.
+ */
+public class ApiOrderServiceTest {
+    private ApiOrderService orderService;
+
+    @Before
+    public void setUp() {
+        orderService = new ApiOrderService(ScooterReplica.getInstance().getBaseUrl());
+    }
+
+    /**
+     * Тест проверяет создание заказа и его последующее отслеживание по трек-номеру.
+     */
+    @Test
+    public void testCreateOrderReturnsTrackableOrder() {
+        OrderData data = new OrderData(
+                "Иван", "Иванов", "Москва, Красная площадь", "Театральная",
+                "89031234567", "15.08.2025", "сутки", "black", "");
+
+        assertTrue("Заказ должен быть успешно создан", orderService.createOrder(data, true));
+        assertNotNull("После создания заказа должен быть известен трек-номер", orderService.getLastTrack());
+        assertTrue("Созданный заказ должен находиться по трек-номеру", orderService.isOrderConfirmed());
+        assertEquals(0, orderService.getValidationErrorsCount());
+    }
+
+    /**
+     * Тест проверяет, что для пустых полей возвращаются те же 5 ошибок, что показывает форма.
+     */
+    @Test
+    public void testShowValidationErrorsForEmptyFields() {
+        OrderData emptyData = new OrderData("", "", "", null, "", "", "", "", "");
+
+        assertFalse("Заказ с пустыми полями не должен создаваться", orderService.createOrder(emptyData, true));
+        assertFalse(orderService.isOrderConfirmed());
+        assertEquals(5, orderService.getValidationErrorsCount());
+    }
+
+    /**
+     * Тест проверяет, что ошибки полей, которые вернул сервер в ответе 400,
+     * считаются ошибками валидации, даже если локальная проверка их не нашла.
+     */
+    @Test
+    public void testServerValidationErrorsAreCounted() throws IOException {
+        HttpServer server = stub(400,
+                "{\"code\": 400, \"message\": \"Недостаточно данных\", \"errors\": [\"address\", \"phone\"]}");
+        try {
+            ApiOrderService service = new ApiOrderService(baseUrl(server));
+
+            assertFalse("Заказ, отклоненный сервером, не должен считаться созданным", service.createOrder(validOrder()));
+            assertNull(service.getLastTrack());
+            assertEquals(2, service.getValidationErrorsCount());
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    /**
+     * Тест проверяет, что ответ об успешном создании без трек-номера приводит к понятной ошибке.
+     */
+    @Test
+    public void testCreatedResponseWithoutTrackIsReported() throws IOException {
+        HttpServer server = stub(201, "{}");
+        try {
+            ApiOrderService service = new ApiOrderService(baseUrl(server));
+
+            IllegalStateException error = assertThrows(IllegalStateException.class,
+                    () -> service.createOrder(validOrder()));
+            assertTrue(error.getMessage(), error.getMessage().contains("track"));
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    /**
+     * Тест проверяет, что несуществующий заказ не находится.
+     */
+    @Test
+    public void testShowNotFoundForInvalidOrder() {
+        assertTrue("Для несуществующего заказа должно возвращаться 'Не найдено'",
+                orderService.checkInvalidOrderStatus("000000"));
+    }
+
+    /**
+     * Тест проверяет поток сгенерированных заказов: валидные создаются,
+     * а невалидные отклоняются с ошибками валидации. Заказы читаются по одному.
+     */
+    @Test
+    public void testStreamedOrdersFollowValidation() {
+        int rows = 0;
+        try (Stream<OrderData> orders = OrderDataSource.generated(7, 40, 0.3).stream()) {
+            for (Iterator<OrderData> iterator = orders.iterator(); iterator.hasNext(); rows++) {
+                OrderData data = iterator.next();
+                boolean valid = OrderValidator.validate(data).isEmpty();
+                assertEquals("Результат заказа не совпадает с проверкой формы: " + data,
+                        valid, orderService.createOrder(data));
+                assertEquals(valid, orderService.getValidationErrorsCount() == 0);
+            }
+        }
+        assertEquals(40, rows);
+    }
+
+    private static OrderData validOrder() {
+        return new OrderData("Иван", "Иванов", "Москва, Красная площадь", "Театральная",
+                "89031234567", "15.08.2025", "сутки", "black", "");
+    }
+
+    /**
+     * Запускает сервер, отвечающий на любой запрос заданным статусом и JSON.
+     */
+    private static HttpServer stub(int status, String body) throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/", exchange -> {
+            byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json; charset=UTF-8");
+            exchange.sendResponseHeaders(status, bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        });
+        server.start();
+        return server;
+    }
+
+    private static String baseUrl(HttpServer server) {
+        return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort() + "/";
+    }
+}
@@ -0,0 +1,37 @@
+package ru.praktikum.tests;
+
+import org.junit.Test;
+import ru.praktikum.BaseTest;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Тесты баннера с куки.
+ * В отличие от остальных тестов, страница открывается без заранее записанного согласия.
+ */
+public class CookieBannerTest extends BaseTest {
+
+    @Override
+    protected boolean isCookieConsentPreset() {
+        return false;
+    }
+
+    /**
+     * Тест проверяет, что баннер отображается и закрывается по кнопке подтверждения.
+     */
+    @Test
+    public void testCookieBannerClosesOnConfirm() {
+        assertTrue("Без согласия на куки должен отображаться баннер", homePage.waitForCookieBanner());
+        homePage.closeCookieBanner();
+
+        assertFalse("Баннер с куки должен закрыться после подтверждения", homePage.isCookieBannerDisplayed());
+    }
+
+    /**
+     * Тест проверяет, что без согласия на куки баннер отображается.
+     */
+    @Test
+    public void testCookieBannerShownWithoutConsent() {
+        assertTrue("Без согласия на куки должен отображаться баннер", homePage.waitForCookieBanner());
+    }
+}
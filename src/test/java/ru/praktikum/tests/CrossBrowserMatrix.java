@@ -0,0 +1,23 @@
+package ru.praktikum.tests;
+
+import org.junit.runner.RunWith;
+import org.junit.runners.Suite;
+import ru.praktikum.runners.MatrixSuite;
+
+/**
+ * Набор браузерных тестов для одновременного прогона в нескольких браузерах:
+ * mvn test -Dtest=CrossBrowserMatrix -Dbrowsers=chrome,firefox
+ * С "browsers=chrome,htmlunit" отчет сравнивает HtmlUnit с Chrome по скорости и результатам
+ * тестов с {@link ru.praktikum.DomOnly}, остальные тесты в HtmlUnit пропускаются.
+ * Имя класса не оканчивается на Test, чтобы обычный прогон не выполнял тесты дважды.
+ */
+@RunWith(MatrixSuite.class)
+@Suite.SuiteClasses({
+        AccordionTest.class,
+        AccordionBulkTest.class,
+        OrderFlowTest.class,
+        AdditionalTest.class,
+        CookieBannerTest.class
+})
+public class CrossBrowserMatrix {
+}
@@ -0,0 +1,68 @@
+package ru.praktikum.tests;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.htmlunit.HtmlUnitDriver;
+import org.openqa.selenium.support.ui.WebDriverWait;
+import ru.praktikum.metrics.CommandMetrics;
+import ru.praktikum.pages.support.ElementCache;
+import java.time.Duration;
+import static org.junit.Assert.*;
+
+/**
+ * Тесты кэша элементов Page Object.
+ * Выполняются во встроенном браузере HtmlUnit, без запуска внешнего браузера.
+ */
+public class ElementCacheTest {
+    private static final String PAGE = "data:text/html,<div id='form'><input id='name'></div>";
+
+    private WebDriver driver;
+    private ElementCache cache;
+
+    @Before
+    public void setUp() {
+        driver = CommandMetrics.decorate(new HtmlUnitDriver(true));
+        driver.get(PAGE);
+        cache = new ElementCache(this, driver, new WebDriverWait(driver, Duration.ofSeconds(2)));
+    }
+
+    @After
+    public void tearDown() {
+        driver.quit();
+    }
+
+    /**
+     * Тест проверяет, что повторное обращение к элементу не ищет его заново.
+     */
+    @Test
+    public void testRepeatedLookupUsesCachedElement() {
+        By name = By.id("name");
+        cache.perform(name, element -> element.sendKeys("Иван"));
+        long commandsBefore = CommandMetrics.commandCount();
+
+        String value = cache.whenVisible(name, element -> element.getAttribute("value"));
+
+        assertEquals("Иван", value);
+        assertEquals("Только чтение значения, без поиска элемента", 1, CommandMetrics.commandCount() - commandsBefore);
+    }
+
+    /**
+     * Тест проверяет, что после замены содержимого страницы устаревший элемент
+     * находится заново и действие выполняется над новым элементом.
+     */
+    @Test
+    public void testStaleElementIsLocatedAgain() {
+        By name = By.id("name");
+        cache.perform(name, element -> element.sendKeys("Иван"));
+        ((JavascriptExecutor) driver).executeScript(
+                "document.getElementById('form').innerHTML = \"<input id='name'>\";");
+
+        cache.perform(name, element -> element.sendKeys("Мария"));
+
+        assertEquals("Мария", driver.findElement(name).getAttribute("value"));
+    }
+}
@@ -0,0 +1,76 @@
+package ru.praktikum.tests;
+
+import org.junit.Test;
+import ru.praktikum.metrics.LatencyRecorder;
+import java.util.Map;
+import static org.junit.Assert.*;
+
+/**
+ * Тесты подсчета перцентилей задержек.
+ * Выполняются без браузера.
+ */
+public class LatencyRecorderTest {
+
+    /**
+     * Тест проверяет перцентили методом ближайшего ранга.
+     */
+    @Test
+    public void testNearestRankPercentiles() {
+        long[] sorted = new long[100];
+        for (int i = 0; i < sorted.length; i++) {
+            sorted[i] = i + 1;
+        }
+
+        assertEquals(50, LatencyRecorder.percentile(sorted, 50));
+        assertEquals(95, LatencyRecorder.percentile(sorted, 95));
+        assertEquals(99, LatencyRecorder.percentile(sorted, 99));
+        assertEquals(100, LatencyRecorder.percentile(sorted, 100));
+        assertEquals(7, LatencyRecorder.percentile(new long[] {7}, 99));
+        assertEquals(0, LatencyRecorder.percentile(new long[0], 50));
+    }
+
+    /**
+     * Тест проверяет сводку по фазам в миллисекундах и сброс значений.
+     */
+    @Test
+    public void testSummaryByPhase() {
+        LatencyRecorder recorder = new LatencyRecorder();
+        for (int i = 1; i <= 20; i++) {
+            recorder.record("firstPage", i * 1_000_000L);
+        }
+        recorder.record("successModal", 2_500_000L);
+
+        Map<String, Map<String, Object>> summary = recorder.summary();
+        assertArrayEquals(new String[] {"firstPage", "successModal"}, summary.keySet().toArray());
+        assertEquals(20, summary.get("firstPage").get("count"));
+        assertEquals(10.0, summary.get("firstPage").get("p50Ms"));
+        assertEquals(19.0, summary.get("firstPage").get("p95Ms"));
+        assertEquals(20.0, summary.get("firstPage").get("maxMs"));
+        assertEquals(2.5, summary.get("successModal").get("p99Ms"));
+
+        recorder.reset();
+        assertEquals(0, recorder.count("firstPage"));
+    }
+
+    /**
+     * Тест проверяет, что фазы заказа записываются только в набор, установленный в текущем потоке.
+     */
+    @Test
+    public void testOrderPhasesAreRecordedOnlyWhenInstalled() {
+        LatencyRecorder.orderPhases().record("firstPage", 1_000_000L);
+        assertEquals(0, LatencyRecorder.orderPhases().count("firstPage"));
+
+        LatencyRecorder order = new LatencyRecorder();
+        LatencyRecorder.recordOrderPhases(order);
+        try {
+            LatencyRecorder.orderPhases().record("firstPage", 1_000_000L);
+        } finally {
+            LatencyRecorder.recordOrderPhases(null);
+        }
+        LatencyRecorder total = new LatencyRecorder();
+        total.merge(order);
+
+        assertEquals(1, total.count("firstPage"));
+        assertEquals(0, LatencyRecorder.orderPhases().count("firstPage"));
+    }
+}
@@ -0,0 +1,125 @@
+package ru.praktikum.tests;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+import ru.praktikum.core.OrderData;
+import ru.praktikum.core.OrderDataGenerator;
+import ru.praktikum.core.OrderService;
+import ru.praktikum.load.LoadHarness;
+import ru.praktikum.load.LoadProfile;
+import ru.praktikum.load.LoadResult;
+import ru.praktikum.replica.ScooterReplica;
+import ru.praktikum.services.api.ApiOrderService;
+import java.time.Duration;
+import static org.junit.Assert.*;
+
+/**
+ * Тесты генератора нагрузки на сервис заказов.
+ * Выполняются без браузера против локальной копии приложения.
+ */
+public class LoadHarnessTest {
+    private static final String BASE_URL = ScooterReplica.getInstance().getBaseUrl();
+
+    /**
+     * Прогревает HTTP-клиент, чтобы первый запрос не занимал короткий установившийся режим.
+     */
+    @BeforeClass
+    public static void warmUp() {
+        new ApiOrderService(BASE_URL).checkInvalidOrderStatus("000000");
+    }
+
+    /**
+     * Тест проверяет, что нагрузка с целевой интенсивностью выполняется без ошибок
+     * и сообщает перцентили задержки и промежуточную статистику.
+     */
+    @Test
+    public void testSteadyStateReportsLatency() {
+        OrderDataGenerator generator = new OrderDataGenerator(1);
+        LoadProfile profile = new LoadProfile(4, Duration.ofMillis(200), Duration.ofSeconds(2), 40,
+                Duration.ZERO, Duration.ofMillis(500));
+
+        LoadResult result = new LoadHarness(() -> new ApiOrderService(BASE_URL), generator::next, profile).run();
+
+        assertEquals("Локальная копия должна принять все заказы", 0, result.getErrors());
+        assertEquals(result.getOperations(), ((Number) result.getLatency().get("count")).longValue());
+        assertTrue((double) result.getLatency().get("p99Ms") >= (double) result.getLatency().get("p50Ms"));
+        assertFalse("Промежуточная статистика должна выводиться во время нагрузки", result.getIntervals().isEmpty());
+    }
+
+    /**
+     * Тест проверяет, что насыщенный сервис не скрывается расписанием: два исполнителя
+     * по 50 мс на заказ успевают около 40 заказов в секунду при целевых 100,
+     * и пропускная способность вместе с опозданиями это показывает.
+     */
+    @Test
+    public void testSaturatedServiceReportsActualThroughput() {
+        OrderData data = new OrderDataGenerator(1).next();
+        LoadProfile profile = new LoadProfile(2, Duration.ZERO, Duration.ofSeconds(1), 100,
+                Duration.ZERO, Duration.ofMillis(250));
+
+        LoadResult result = new LoadHarness(() -> new SlowOrderService(Duration.ofMillis(50)), () -> data, profile).run();
+
+        assertEquals(0, result.getErrors());
+        assertTrue("Пропускная способность должна упираться в сервис, а не в расписание: " + result.getThroughput(),
+                result.getThroughput() < 60);
+        assertTrue(result.getLateStarts() > 0);
+        assertTrue(result.getMissedSlots() > 0);
+    }
+
+    /**
+     * Тест проверяет подсчет отклоненных заказов в доле ошибок.
+     */
+    @Test
+    public void testRejectedOrdersCountAsErrors() {
+        OrderData invalid = new OrderData("", "", "", null, "", "", "", "", "");
+        LoadProfile profile = new LoadProfile(2, Duration.ZERO, Duration.ofMillis(500), 0,
+                Duration.ofMillis(10), Duration.ofMillis(250));
+
+        LoadResult result = new LoadHarness(() -> new ApiOrderService(BASE_URL), () -> invalid, profile).run();
+
+        assertTrue(result.getOperations() > 0);
+        assertEquals(1.0, result.getErrorRate(), 0.0);
+        assertEquals(Long.valueOf(result.getOperations()), result.getErrorsByType().get("rejected"));
+    }
+
+    /**
+     * Сервис заказов, принимающий каждый заказ за фиксированное время.
+     */
+    private static class SlowOrderService implements OrderService {
+        private final Duration delay;
+
+        SlowOrderService(Duration delay) {
+            this.delay = delay;
+        }
+
+        @Override
+        public boolean createOrder(OrderData data, boolean useTopButton) {
+            try {
+                Thread.sleep(delay.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+            return true;
+        }
+
+        @Override
+        public boolean isOrderConfirmed() {
+            return true;
+        }
+
+        @Override
+        public int getValidationErrorsCount() {
+            return 0;
+        }
+
+        @Override
+        public boolean checkInvalidOrderStatus(String orderId) {
+            return true;
+        }
+
+        @Override
+        public void setTimeout(int seconds) {
+        }
+    }
+}
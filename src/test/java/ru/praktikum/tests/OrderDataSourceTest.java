@@ -0,0 +1,100 @@
+package ru.praktikum.tests;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import ru.praktikum.core.OrderData;
+import ru.praktikum.core.OrderValidator;
+import ru.praktikum.data.OrderDataSource;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import static org.junit.Assert.*;
+
+/**
+ * Тесты потоковых источников данных заказов.
+ * Выполняются без браузера.
+ */
+public class OrderDataSourceTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    /**
+     * Тест проверяет разбор CSV: порядок столбцов по заголовку, кавычки,
+     * пропуск комментариев и пустых строк.
+     */
+    @Test
+    public void testCsvRowsFollowHeader() throws IOException {
+        Path file = folder.newFile("orders.csv").toPath();
+        Files.write(file, List.of(
+                "phone,name,surname,address,metroStation,deliveryDate,rentalPeriod,color,comment",
+                "# валидный заказ",
+                "+79031234567,Иван,Иванов,\"Москва, Арбат, 1\",Лубянка,15.08.2025,сутки,black,\"Код \"\"12\"\"\"",
+                "",
+                "123,John,Иванов,Дом,,15.08.2025,сутки,,"), StandardCharsets.UTF_8);
+
+        List<OrderData> rows;
+        try (Stream<OrderData> stream = OrderDataSource.csv(file).stream()) {
+            rows = stream.collect(Collectors.toList());
+        }
+
+        assertEquals(2, rows.size());
+        assertEquals("Иван", rows.get(0).name);
+        assertEquals("Москва, Арбат, 1", rows.get(0).address);
+        assertEquals("Код \"12\"", rows.get(0).comment);
+        assertTrue(OrderValidator.validate(rows.get(0)).isEmpty());
+        assertEquals(List.of("name", "address", "metroStation", "phone"), OrderValidator.validate(rows.get(1)));
+    }
+
+    /**
+     * Тест проверяет разбор JSONL и отбор валидных заказов.
+     */
+    @Test
+    public void testJsonlRowsAndValidFilter() throws IOException {
+        Path file = folder.newFile("orders.jsonl").toPath();
+        Files.write(file, List.of(
+                "{\"name\": \"Мария\", \"surname\": \"Петрова\", \"address\": \"Москва, Тверская улица, 5\","
+                        + " \"metroStation\": \"Сокольники\", \"phone\": \"89101234567\", \"color\": \"grey\"}",
+                "{\"name\": \"Maria\", \"surname\": \"Петрова\"}"), StandardCharsets.UTF_8);
+
+        try (Stream<OrderData> stream = OrderDataSource.jsonl(file).valid().stream()) {
+            List<OrderData> rows = stream.collect(Collectors.toList());
+            assertEquals(1, rows.size());
+            assertEquals("Мария", rows.get(0).name);
+            assertEquals("grey", rows.get(0).color);
+            assertNull(rows.get(0).comment);
+        }
+    }
+
+    /**
+     * Тест проверяет, что генерация и отбор воспроизводятся при одинаковом seed,
+     * а доли невалидных и отобранных строк близки к заданным.
+     */
+    @Test
+    public void testGeneratedSourceIsReproducible() {
+        OrderDataSource source = OrderDataSource.generated(7, 2000, 0.25).sample(0.5, 7);
+
+        List<String> first = source.stream().map(OrderData::toString).collect(Collectors.toList());
+        List<String> second = source.stream().map(OrderData::toString).collect(Collectors.toList());
+        long invalid = source.invalid().stream().count();
+
+        assertEquals(first, second);
+        assertEquals(1000, first.size(), 100);
+        assertEquals(0.25, (double) invalid / first.size(), 0.05);
+    }
+
+    /**
+     * Тест проверяет, что строки выдаются лениво: из практически бесконечного
+     * источника читаются только нужные строки.
+     */
+    @Test
+    public void testRowsAreStreamedLazily() {
+        try (Stream<OrderData> stream = OrderDataSource.generated(1, Long.MAX_VALUE, 0.2).valid().limit(5).stream()) {
+            assertEquals(5, stream.count());
+        }
+    }
+}
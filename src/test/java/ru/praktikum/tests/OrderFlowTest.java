@@ -4,19 +4,41 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.Parameterized;
 import ru.praktikum.BaseTest;
+import ru.praktikum.OrderServiceOnly;
+import ru.praktikum.runners.ParallelParameterized;
 import ru.praktikum.core.OrderData;
+import ru.praktikum.data.OrderDataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
 import static org.junit.Assert.assertTrue;
 
 /**
  * Параметризованный тест позитивного сценария заказа самоката.
  * Проверяет полный флоу оформления заказа с разными наборами данных и кнопками.
  */
-@RunWith(Parameterized.class)
+@RunWith(ParallelParameterized.class)
+@OrderServiceOnly
 public class OrderFlowTest extends BaseTest {
     private final OrderData testData;
     private final boolean useTopButton;
     private final String testName;
 
+    // Базовые наборы данных, которые проверяются всегда
+    private static final Object[][] BASE_ROWS = {
+            // Первый набор данных: минимальные обязательные поля + черный цвет + верхняя кнопка
+            {new OrderData(
+                    "Иван", "Иванов", "Москва, Красная площадь", "Театральная",
+                    "89031234567", "15.08.2025", "сутки", "black", ""
+            ), true, "Заказ через верхнюю кнопку с минимальными данными"},
+
+            // Второй набор данных: все поля заполнены + серый цвет + нижняя кнопка
+            {new OrderData(
+                    "Мария", "Петрова", "Санкт-Петербург, Невский проспект", "Невский проспект",
+                    "+79101234567", "25.08.2025", "двое суток", "grey", "Комментарий"
+            ), false, "Заказ через нижнюю кнопку со всеми данными"}
+    };
+
     /**
      * Конструктор для параметризованного теста.
      * @param data Данные для тестового заказа
@@ -31,23 +53,23 @@ public class OrderFlowTest extends BaseTest {
 
     /**
      * Метод предоставляет тестовые данные для параметризованного теста.
-     * @return Массив объектов с данными заказов и типом кнопки
+     * Если задано системное свойство "orders.source", к двум базовым наборам добавляются
+     * валидные заказы из {@link OrderDataSource#fromSystemProperties()} (кнопки чередуются).
+     * Parameterized создает раннер на каждую строку, поэтому объем стоит ограничить
+     * свойствами "orders.limit" или "orders.sample"; для потоковой проверки тысяч заказов
+     * без браузера см. ApiOrderServiceTest.
+     * @return строки с данными заказов, типом кнопки и названием
      */
     @Parameterized.Parameters(name = "{2}")
-    public static Object[][] getTestData() {
-        return new Object[][] {
-                // Первый набор данных: минимальные обязательные поля + черный цвет + верхняя кнопка
-                {new OrderData(
-                        "Иван", "Иванов", "Москва, Красная площадь", "Театральная",
-                        "89031234567", "15.08.2025", "сутки", "black", ""
-                ), true, "Заказ через верхнюю кнопку с минимальными данными"},
-
-                // Второй набор данных: все поля заполнены + серый цвет + нижняя кнопка
-                {new OrderData(
-                        "Мария", "Петрова", "Санкт-Петербург, Невский проспект", "Невский проспект",
-                        "+79101234567", "25.08.2025", "двое суток", "grey", "Комментарий"
-                ), false, "Заказ через нижнюю кнопку со всеми данными"}
-        };
+    public static Iterable<Object[]> getTestData() {
+        List<Object[]> rows = new ArrayList<>(List.of(BASE_ROWS));
+        if (System.getProperty("orders.source") != null) {
+            try (Stream<OrderData> orders = OrderDataSource.fromSystemProperties().valid().stream()) {
+                orders.forEach(data -> rows.add(new Object[] {data, rows.size() % 2 == 0,
+                        "Заказ из источника данных #" + (rows.size() - BASE_ROWS.length + 1)}));
+            }
+        }
+        return rows;
     }
 
     /**
@@ -0,0 +1,100 @@
+package ru.praktikum.tests;
+
+import org.junit.Test;
+import org.openqa.selenium.json.Json;
+import ru.praktikum.BaseTest;
+import ru.praktikum.TestContext;
+import ru.praktikum.core.OrderDataGenerator;
+import ru.praktikum.metrics.LatencyRecorder;
+import ru.praktikum.services.ui.UIOrderService;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Замер задержек оформления заказа через UI:
+ * mvn test -Dtest=OrderLatencyBenchmark -Dorder.latency.runs=50
+ * Заказ создается "order.latency.runs" раз (по умолчанию 20) после "order.latency.warmup"
+ * прогревочных заказов (по умолчанию 2) с данными из {@link OrderDataGenerator}
+ * ("order.latency.seed", по умолчанию 42). По фазам firstPage, secondPage, confirmModal,
+ * successModal и по заказу целиком считаются p50/p95/p99 и максимум, отчет записывается
+ * в "order.latency.report" (по умолчанию target/order-latency.json) для сравнения версий приложения.
+ * Имя класса не оканчивается на Test, поэтому обычный прогон его не выполняет.
+ * Фазы собираются только в потоке замера, поэтому параллельные тесты в отчет не попадают,
+ * а фазы неудавшихся заказов отбрасываются вместе с заказом.
+ */
+public class OrderLatencyBenchmark extends BaseTest {
+    private static final int RUNS = Integer.getInteger("order.latency.runs", 20);
+    private static final int WARMUP = Integer.getInteger("order.latency.warmup", 2);
+    private static final long SEED = Long.getLong("order.latency.seed", 42);
+    private static final Path REPORT_FILE = Paths.get(
+            System.getProperty("order.latency.report", "target/order-latency.json"));
+
+    /**
+     * Повторяет создание заказа по прямой ссылке на форму и записывает отчет о задержках.
+     * Тест падает, если хотя бы один заказ не был создан.
+     */
+    @Test
+    public void measureOrderLatency() throws IOException {
+        orderService.setTimeout(30);
+        // Фазы пишет OrderPage, поэтому замер всегда идет через UI, даже при "order.service=api"
+        UIOrderService service = new UIOrderService(driver, homePage, BASE_URL);
+        OrderDataGenerator generator = new OrderDataGenerator(SEED);
+        LatencyRecorder phases = new LatencyRecorder();
+
+        int failures = 0;
+        try {
+            for (int i = 0; i < WARMUP + RUNS; i++) {
+                // Фазы каждого заказа пишутся отдельно и попадают в отчет, только если заказ создан
+                LatencyRecorder order = new LatencyRecorder();
+                LatencyRecorder.recordOrderPhases(order);
+                long start = System.nanoTime();
+                boolean created = service.createOrder(generator.next());
+                if (i < WARMUP) {
+                    continue;
+                }
+                if (created) {
+                    order.recordSince("total", start);
+                    phases.merge(order);
+                } else {
+                    failures++;
+                }
+            }
+        } finally {
+            LatencyRecorder.recordOrderPhases(null);
+        }
+
+        Map<String, Map<String, Object>> summary = phases.summary();
+        summary.forEach((phase, stats) -> System.out.println(String.format(
+                "[latency] %-12s n=%s p50=%s ms p95=%s ms p99=%s ms max=%s ms",
+                phase, stats.get("count"), stats.get("p50Ms"), stats.get("p95Ms"), stats.get("p99Ms"),
+                stats.get("maxMs"))));
+        writeReport(summary, failures);
+
+        assertEquals("Все заказы должны быть успешно созданы", 0, failures);
+    }
+
+    private void writeReport(Map<String, Map<String, Object>> summary, int failures) throws IOException {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("createdAt", Instant.now().toString());
+        report.put("baseUrl", BASE_URL);
+        report.put("browser", TestContext.browser());
+        report.put("runs", RUNS);
+        report.put("warmup", WARMUP);
+        report.put("seed", SEED);
+        report.put("failures", failures);
+        report.put("phases", summary);
+        Path parent = REPORT_FILE.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Files.write(REPORT_FILE, new Json().toJson(report).getBytes(StandardCharsets.UTF_8));
+        System.out.println("Order latency report written to " + REPORT_FILE);
+    }
+}
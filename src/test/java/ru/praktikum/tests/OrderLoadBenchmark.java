@@ -0,0 +1,46 @@
+package ru.praktikum.tests;
+
+import org.junit.Test;
+import org.openqa.selenium.json.Json;
+import ru.praktikum.TestEnvironment;
+import ru.praktikum.core.OrderDataGenerator;
+import ru.praktikum.load.LoadHarness;
+import ru.praktikum.load.LoadProfile;
+import ru.praktikum.load.LoadResult;
+import ru.praktikum.services.api.ApiOrderService;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Нагрузка на API заказов стенда:
+ * mvn test -Dtest=OrderLoadBenchmark -Dload.workers=16 -Dload.rate=50 -Dload.duration.s=120
+ * Параметры нагрузки описаны в {@link LoadProfile#fromSystemProperties()}, данные заказов
+ * генерируются с seed "load.seed" (по умолчанию 42). Итоги записываются в target/load-report.json,
+ * а тест падает, если доля ошибок превысила "load.max.error.pct" (по умолчанию 1).
+ * Имя класса не оканчивается на Test, поэтому обычный прогон его не выполняет.
+ */
+public class OrderLoadBenchmark {
+    private static final Path REPORT_FILE = Paths.get("target", "load-report.json");
+
+    /**
+     * Нагружает API заказов стенда, выбранного свойствами "target" и "base.url".
+     */
+    @Test
+    public void loadOrderApi() throws IOException {
+        String baseUrl = TestEnvironment.baseUrl();
+        OrderDataGenerator generator = new OrderDataGenerator(Long.getLong("load.seed", 42));
+
+        LoadResult result = new LoadHarness(() -> new ApiOrderService(baseUrl), generator::next,
+                LoadProfile.fromSystemProperties()).run();
+
+        Files.createDirectories(REPORT_FILE.getParent());
+        Files.write(REPORT_FILE, new Json().toJson(result.toMap()).getBytes(StandardCharsets.UTF_8));
+        double maxErrorPct = Double.parseDouble(System.getProperty("load.max.error.pct", "1"));
+        assertTrue(String.format("Доля ошибок %.1f%% превышает допустимые %.1f%%",
+                result.getErrorRate() * 100, maxErrorPct), result.getErrorRate() * 100 <= maxErrorPct);
+    }
+}
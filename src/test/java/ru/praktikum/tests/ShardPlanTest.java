@@ -0,0 +1,45 @@
+package ru.praktikum.tests;
+
+import org.junit.Test;
+import ru.praktikum.sharding.ShardPlan;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import static org.junit.Assert.*;
+
+/**
+ * Тесты распределения тестов по шардам.
+ * Выполняются без браузера.
+ */
+public class ShardPlanTest {
+
+    /**
+     * Тест проверяет, что долгие тесты разносятся по разным шардам и шарды получаются равными.
+     */
+    @Test
+    public void testLongTestsAreBalancedAcrossShards() {
+        Map<String, Long> durations = new LinkedHashMap<>();
+        durations.put("OrderFlowTest.testOrder[1]", 30_000L);
+        durations.put("OrderFlowTest.testOrder[2]", 30_000L);
+        durations.put("AdditionalTest.testLogo", 20_000L);
+        durations.put("AccordionTest.testFaq[0]", 10_000L);
+        durations.put("AccordionTest.testFaq[1]", 10_000L);
+
+        ShardPlan plan = new ShardPlan(durations, 2);
+
+        assertNotEquals(plan.shardOf("OrderFlowTest.testOrder[1]"), plan.shardOf("OrderFlowTest.testOrder[2]"));
+        assertEquals(50_000L, plan.getPredictedMillis(0));
+        assertEquals(50_000L, plan.getPredictedMillis(1));
+    }
+
+    /**
+     * Тест проверяет, что тест без истории попадает в один и тот же шард на любом узле.
+     */
+    @Test
+    public void testUnknownTestHasStableShard() {
+        ShardPlan first = new ShardPlan(new LinkedHashMap<>(), 3);
+        ShardPlan second = new ShardPlan(new LinkedHashMap<>(), 3);
+
+        assertFalse(first.isKnown("NewTest.testSomething"));
+        assertEquals(first.shardOf("NewTest.testSomething"), second.shardOf("NewTest.testSomething"));
+    }
+}
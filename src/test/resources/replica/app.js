@@ -0,0 +1,328 @@
+// Локальная копия одностраничного приложения Яндекс.Самоката.
+// Воспроизводит маршруты "/", "/order" и "/track", аккордеон FAQ, форму заказа
+// с валидацией и страницу статуса заказа. Заказы хранятся на стороне локального
+// сервера и доступны через те же API-методы, что и у оригинала.
+(function () {
+    var FAQ = [
+        ['Сколько это стоит? И как оплатить?', 'Сутки — 400 рублей. Оплата курьеру — наличными или картой.'],
+        ['Хочу сразу несколько самокатов! Так можно?', 'Пока что у нас так: один заказ — один самокат. Если хотите покататься с друзьями, можете просто сделать несколько заказов — один за другим.'],
+        ['Как рассчитывается время аренды?', 'Допустим, вы оформляете заказ на 8 мая. Мы привозим самокат 8 мая в течение дня. Отсчёт времени аренды начинается с момента, когда вы оплатите заказ курьеру. Если мы привезли самокат 8 мая в 20:30, суточная аренда закончится 9 мая в 20:30.'],
+        ['Можно ли заказать самокат прямо на сегодня?', 'Только начиная с завтрашнего дня. Но скоро станем расторопнее.'],
+        ['Можно ли продлить заказ или вернуть самокат раньше?', 'Пока что нет! Но если что-то срочное — всегда можно позвонить в поддержку по красивому номеру 1010.'],
+        ['Вы привозите зарядку вместе с самокатом?', 'Самокат приезжает к вам с полной зарядкой. Этого хватает на восемь суток — даже если будете кататься без передышек и во сне. Зарядка не понадобится.'],
+        ['Можно ли отменить заказ?', 'Да, пока самокат не привезли. Штрафа не будет, объяснительной записки тоже не попросим. Все же свои.'],
+        ['Я жизу за МКАДом, привезёте?', 'Да, обязательно. Всем самокатов! И Москве, и Московской области.']
+    ];
+    var STATIONS = [
+        'Бульвар Рокоссовского', 'Черкизовская', 'Преображенская площадь', 'Сокольники', 'Красносельская',
+        'Комсомольская', 'Красные Ворота', 'Чистые пруды', 'Лубянка', 'Охотный Ряд', 'Библиотека имени Ленина',
+        'Кропоткинская', 'Парк культуры', 'Фрунзенская', 'Спортивная', 'Театральная', 'Тверская',
+        'Маяковская', 'Белорусская', 'Динамо', 'Аэропорт', 'Сокол', 'Войковская'
+    ];
+    var PERIODS = ['сутки', 'двое суток', 'трое суток', 'четверо суток', 'пятеро суток', 'шестеро суток', 'семеро суток'];
+    var NAME_PATTERN = /^[А-Яа-яЁё\s-]{2,15}$/;
+    var ADDRESS_PATTERN = /^[А-Яа-яЁё0-9\s,.\-]{5,50}$/;
+    var PHONE_PATTERN = /^\+?[0-9]{10,12}$/;
+
+    var page = document.getElementById('page');
+    var order = {};
+
+    function q(selector, root) {
+        return (root || document).querySelector(selector);
+    }
+
+    function byText(root, selector, text) {
+        return Array.prototype.filter.call(root.querySelectorAll(selector), function (el) {
+            return el.textContent === text;
+        })[0];
+    }
+
+    function render(templateId) {
+        page.innerHTML = '';
+        page.appendChild(document.getElementById(templateId).content.cloneNode(true));
+    }
+
+    function navigate(path) {
+        history.pushState({}, '', path);
+        route();
+    }
+
+    function route() {
+        var path = location.pathname;
+        if (path === '/order') {
+            renderOrder();
+        } else if (path === '/track') {
+            renderTrack(new URLSearchParams(location.search).get('t') || '');
+        } else {
+            renderHome();
+        }
+    }
+
+    // Баннер с куки скрывается, если пользователь уже дал согласие
+    function initCookieBanner() {
+        var banner = q('.App_CookieConsent__1yUIN');
+        banner.hidden = document.cookie.split('; ').indexOf('CookieConsent=true') !== -1;
+        q('#rcc-confirm-button').addEventListener('click', function () {
+            document.cookie = 'CookieConsent=true; path=/; max-age=31536000';
+            banner.hidden = true;
+        });
+    }
+
+    function initHeader() {
+        var topButton = byText(q('.Header_Nav__AGCXC'), 'button', 'Заказать');
+        topButton.addEventListener('click', function () { navigate('/order'); });
+        byText(q('.Header_Nav__AGCXC'), 'button', 'Статус заказа').addEventListener('click', function () {
+            q('.Header_SearchInput__3YRIQ').hidden = false;
+            q('.Header_Input__xIoUq').focus();
+        });
+        q('.Header_Button__28dPO').addEventListener('click', function () {
+            navigate('/track?t=' + encodeURIComponent(q('.Header_Input__xIoUq').value));
+        });
+        q('.Header_LogoScooter__3lsAR').addEventListener('click', function (event) {
+            event.preventDefault();
+            navigate('/');
+        });
+    }
+
+    function renderHome() {
+        render('home-template');
+        var accordion = q('.accordion');
+        FAQ.forEach(function (item, index) {
+            var wrapper = document.createElement('div');
+            wrapper.className = 'accordion__item';
+            wrapper.innerHTML =
+                '<div class="accordion__heading" role="heading" aria-level="3">' +
+                '<div class="accordion__button" id="accordion__heading-' + index + '" role="button" tabindex="0"' +
+                ' aria-expanded="false" aria-controls="accordion__panel-' + index + '"></div></div>' +
+                '<div class="accordion__panel" id="accordion__panel-' + index + '" role="region" hidden>' +
+                '<p></p></div>';
+            q('.accordion__button', wrapper).textContent = item[0];
+            q('p', wrapper).textContent = item[1];
+            accordion.appendChild(wrapper);
+        });
+        accordion.addEventListener('click', function (event) {
+            var button = event.target.closest('.accordion__button');
+            if (!button) {
+                return;
+            }
+            var panel = document.getElementById(button.getAttribute('aria-controls'));
+            var expand = panel.hidden;
+            accordion.querySelectorAll('.accordion__panel').forEach(function (el) { el.hidden = true; });
+            accordion.querySelectorAll('.accordion__button').forEach(function (el) {
+                el.setAttribute('aria-expanded', 'false');
+            });
+            panel.hidden = !expand;
+            button.setAttribute('aria-expanded', String(expand));
+        });
+        q('.Home_FinishButton__1_cWm button').addEventListener('click', function () { navigate('/order'); });
+    }
+
+    function showError(input, message) {
+        var container = input.closest('.Input_InputContainer__3NykH');
+        var error = q('.Input_ErrorMessage__3HvIb', container);
+        if (!message) {
+            if (error) {
+                container.removeChild(error);
+            }
+            return true;
+        }
+        if (!error) {
+            error = document.createElement('div');
+            error.className = 'Input_ErrorMessage__3HvIb Input_Visible___syz6';
+            container.appendChild(error);
+        }
+        error.textContent = message;
+        return false;
+    }
+
+    function renderOrder() {
+        order = {};
+        render('order-template');
+        var form = q('.Order_Form__17u6u');
+        var metroInput = q('.select-search__input', form);
+        var metroRoot = q('.select-search', form);
+
+        function closeStations() {
+            var list = q('.select-search__select', metroRoot);
+            if (list) {
+                metroRoot.removeChild(list);
+            }
+        }
+
+        function openStations() {
+            closeStations();
+            var text = metroInput.value.trim().toLowerCase();
+            var matches = STATIONS.filter(function (name) { return name.toLowerCase().indexOf(text) !== -1; });
+            // В отличие от оригинала, при отсутствии совпадений показывается весь список,
+            // чтобы тестовые данные с произвольной станцией оставались пригодными
+            var list = document.createElement('div');
+            list.className = 'select-search__select';
+            var options = document.createElement('ul');
+            options.className = 'select-search__options';
+            (matches.length ? matches : STATIONS).forEach(function (name) {
+                var row = document.createElement('li');
+                row.className = 'select-search__row';
+                var option = document.createElement('button');
+                option.className = 'Order_SelectOption__82bhS select-search__option';
+                option.innerHTML = '<div class="Order_Text__2broi"></div>';
+                q('.Order_Text__2broi', option).textContent = name;
+                option.addEventListener('mousedown', function (event) { event.preventDefault(); });
+                option.addEventListener('click', function () {
+                    order.metroStation = STATIONS.indexOf(name) + 1;
+                    metroInput.value = name;
+                    closeStations();
+                    showError(metroInput, null);
+                });
+                row.appendChild(option);
+                options.appendChild(row);
+            });
+            list.appendChild(options);
+            metroRoot.appendChild(list);
+        }
+
+        metroInput.addEventListener('focus', openStations);
+        metroInput.addEventListener('input', function () {
+            delete order.metroStation;
+            openStations();
+        });
+        metroInput.addEventListener('blur', function () { setTimeout(closeStations, 150); });
+
+        byText(page, 'button', 'Далее').addEventListener('click', function () {
+            var name = q('input[name=name]', form);
+            var surname = q('input[name=surname]', form);
+            var address = q('input[name=address]', form);
+            var phone = q('input[name=phone]', form);
+            var valid = [
+                showError(name, NAME_PATTERN.test(name.value.trim()) ? null : 'Введите корректное имя'),
+                showError(surname, NAME_PATTERN.test(surname.value.trim()) ? null : 'Введите корректную фамилию'),
+                showError(address, ADDRESS_PATTERN.test(address.value.trim()) ? null : 'Введите корректный адрес'),
+                showError(metroInput, order.metroStation ? null : 'Выберите станцию'),
+                showError(phone, PHONE_PATTERN.test(phone.value.trim()) ? null : 'Введите корректный номер')
+            ].every(Boolean);
+            if (valid) {
+                order.firstName = name.value.trim();
+                order.lastName = surname.value.trim();
+                order.address = address.value.trim();
+                order.phone = phone.value.trim();
+                renderRent();
+            }
+        });
+    }
+
+    function renderRent() {
+        render('rent-template');
+        var dateInput = q('input[placeholder="* Когда привезти самокат"]');
+        var dropdown = q('.Dropdown-root');
+        var placeholder = q('.Dropdown-placeholder', dropdown);
+
+        dateInput.addEventListener('keydown', function (event) {
+            if (event.key === 'Enter') {
+                dateInput.blur();
+            }
+        });
+        q('.Dropdown-control', dropdown).addEventListener('click', function () {
+            var menu = q('.Dropdown-menu', dropdown);
+            if (menu) {
+                dropdown.removeChild(menu);
+                return;
+            }
+            menu = document.createElement('div');
+            menu.className = 'Dropdown-menu';
+            PERIODS.forEach(function (period, index) {
+                var option = document.createElement('div');
+                option.className = 'Dropdown-option';
+                option.textContent = period;
+                option.addEventListener('click', function () {
+                    order.rentTime = index + 1;
+                    placeholder.textContent = period;
+                    placeholder.className = 'Dropdown-placeholder is-selected';
+                    dropdown.removeChild(menu);
+                });
+                menu.appendChild(option);
+            });
+            dropdown.appendChild(menu);
+        });
+
+        byText(page, 'button', 'Назад').addEventListener('click', function () { renderOrder(); });
+        byText(q('.Order_Buttons__1xGrp'), 'button', 'Заказать').addEventListener('click', function () {
+            var validDate = showError(dateInput, dateInput.value.trim() ? null : 'Введите дату');
+            if (!validDate || !order.rentTime) {
+                return;
+            }
+            order.deliveryDate = dateInput.value.trim();
+            order.comment = q('input[placeholder="Комментарий для курьера"]').value;
+            order.color = ['black', 'grey'].filter(function (id) {
+                return document.getElementById(id).checked;
+            }).map(function (id) { return id.toUpperCase(); });
+            showConfirmModal();
+        });
+    }
+
+    function showModal(header, buttons) {
+        var modal = document.createElement('div');
+        modal.className = 'Order_Modal__YZ-d3';
+        modal.innerHTML = '<div class="Order_ModalHeader__3FDaJ"></div><div class="Order_Buttons__1xGrp"></div>';
+        q('.Order_ModalHeader__3FDaJ', modal).textContent = header;
+        buttons.forEach(function (spec) {
+            var button = document.createElement('button');
+            button.className = 'Button_Button__ra12g Button_Middle__1CSJM' + (spec.inverted ? ' Button_Inverted__3IF-i' : '');
+            button.textContent = spec.text;
+            button.addEventListener('click', function () { spec.action(modal); });
+            q('.Order_Buttons__1xGrp', modal).appendChild(button);
+        });
+        page.appendChild(modal);
+    }
+
+    function showConfirmModal() {
+        showModal('Хотите оформить заказ?', [
+            {text: 'Нет', inverted: true, action: function (modal) { page.removeChild(modal); }},
+            {text: 'Да', action: function (modal) {
+                fetch('/api/v1/orders', {
+                    method: 'POST',
+                    headers: {'Content-Type': 'application/json'},
+                    body: JSON.stringify(order)
+                }).then(function (response) { return response.json(); }).then(function (body) {
+                    page.removeChild(modal);
+                    showModal('Заказ оформлен', [
+                        {text: 'Посмотреть статус', action: function () { navigate('/track?t=' + body.track); }}
+                    ]);
+                    var info = document.createElement('div');
+                    info.className = 'Order_Text__2broi';
+                    info.textContent = 'Номер заказа: ' + body.track + '. Запишите его: пригодится, чтобы отслеживать статус';
+                    q('.Order_ModalHeader__3FDaJ', page.lastChild).appendChild(info);
+                });
+            }}
+        ]);
+    }
+
+    function renderTrack(track) {
+        render('track-template');
+        var input = q('.Track_Input__1g7lq');
+        input.value = track;
+        byText(page, 'button', 'Посмотреть').addEventListener('click', function () {
+            navigate('/track?t=' + encodeURIComponent(input.value));
+        });
+        if (!track) {
+            return;
+        }
+        fetch('/api/v1/orders/track?t=' + encodeURIComponent(track)).then(function (response) {
+            return response.json().then(function (body) { return {status: response.status, body: body}; });
+        }).then(function (result) {
+            var container = q('.Track_Result');
+            if (result.status !== 200) {
+                container.innerHTML = '<div class="Track_NotFound__6oaoY"><img src="/assets/not-found.svg" alt="Not found"></div>';
+                return;
+            }
+            var info = document.createElement('div');
+            info.className = 'Track_OrderInfo__2fpDL';
+            info.textContent = result.body.order.firstName + ' ' + result.body.order.lastName +
+                ', ' + result.body.order.address;
+            container.appendChild(info);
+        });
+    }
+
+    window.addEventListener('popstate', route);
+    initCookieBanner();
+    initHeader();
+    route();
+})();